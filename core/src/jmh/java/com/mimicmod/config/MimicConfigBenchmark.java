@@ -0,0 +1,69 @@
+package com.mimicmod.config;
+
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks variant sampling (once per spawn), and sampler compilation,
+ * config validation, config compilation from JSON and decoding of the config
+ * cache (once per load or reload).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MimicConfigBenchmark {
+
+  private static final VariantSpec[] VARIANTS = VariantSpec.BUILTIN.toArray(new VariantSpec[0]);
+
+  private MimicConfig config;
+  private VariantSampler sampler;
+  private SplittableRandom random;
+  private String json;
+  private byte[] jsonBytes;
+  private byte[] cache;
+
+  @Setup
+  public void setup() {
+    config = MimicConfig.createDefaults();
+    sampler = VariantSampler.compile(config, VARIANTS);
+    random = new SplittableRandom(42L);
+    json = new GsonBuilder().setPrettyPrinting().create().toJson(config);
+    jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    cache = ConfigCache.encode(jsonBytes, ConfigCompiler.Result.of(config));
+  }
+
+  @Benchmark
+  public int sampleVariant() {
+    return sampler.sample(random);
+  }
+
+  @Benchmark
+  public VariantSampler compileSampler() {
+    return VariantSampler.compile(config, VARIANTS);
+  }
+
+  @Benchmark
+  public boolean validate() {
+    return config.validate();
+  }
+
+  @Benchmark
+  public ConfigCompiler.Result compileConfig() {
+    return ConfigCompiler.compile(json);
+  }
+
+  @Benchmark
+  public ConfigCompiler.Result decodeCache() {
+    return ConfigCache.decode(cache, jsonBytes);
+  }
+}
@@ -0,0 +1,255 @@
+package com.mimicmod.config;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, pre-computed view of the balance values in a {@link MimicConfig}.
+ *
+ * <p>
+ * Built once per config load/reload and published atomically by
+ * {@code BalanceUtils}. Health and damage are stored in dense tables indexed by
+ * {@code [biome][variant][difficulty]} (flattened), so stat lookups are plain
+ * array reads with no hashing, boxing or allocation.
+ *
+ * <p>
+ * Biome rows follow the interned biome indices passed to {@link #compile}; one
+ * extra trailing row holds the values for unknown biomes (weight 1.0). Variant
+ * columns follow the dense variant ids (the order of the variant spec array),
+ * and difficulty columns follow the vanilla difficulty id (peaceful = 0 ..
+ * hard = 3). Values the config does not set for a variant come from its
+ * {@link VariantSpec}.
+ *
+ * <p>
+ * The config-driven tooth and rare book chances are folded into one
+ * cumulative table per variant, so a single roll decides both bonus drops
+ * (see {@link #bonusLoot(int, double)}).
+ *
+ * <p>
+ * Spawn rates are compiled into a {@link VariantSampler} whose results are
+ * variant column indices.
+ *
+ * <p>
+ * Each snapshot carries a {@link #version()} fingerprint of its compiled
+ * values. Entities store the version their stats were applied with, so only
+ * mimics whose effective stats actually changed are re-scaled after a reload.
+ */
+public final class BalanceSnapshot {
+  public static final int DIFFICULTY_COUNT = 4;
+
+  /**
+   * Bonus drop flags returned by {@link #bonusLoot(int, double)}.
+   */
+  public static final int BONUS_TOOTH = 1;
+  public static final int BONUS_RARE_BOOK = 1 << 1;
+  private static final int BONUS_OUTCOMES = 3;
+
+  // Difficulty multipliers, indexed by difficulty id
+  private static final double[] HEALTH_DIFFICULTY_MULTIPLIERS = { 0.5, 0.75, 1.0, 1.5 };
+  private static final double[] DAMAGE_DIFFICULTY_MULTIPLIERS = { 0.0, 0.5, 1.0, 1.5 };
+
+  private static final double MIN_HEALTH = 1.0;
+  private static final double MIN_DAMAGE = 0.5;
+  private static final int MIN_EXPERIENCE = 1;
+
+  private final MimicConfig config;
+  private final int version;
+  private final int defaultBiomeRow;
+  private final double[] biomeWeights;
+  private final int variantCount;
+  private final double[] health;
+  private final double[] damage;
+  private final int[] experience;
+  private final double[] rareBookChance;
+  private final double toothChance;
+  // Per variant: cumulative chances of tooth and book, tooth only, book only
+  private final double[] bonusThresholds;
+  private final VariantSampler variantSampler;
+
+  private BalanceSnapshot(MimicConfig config, double[] biomeWeights, int variantCount, double[] health,
+      double[] damage, int[] experience, double[] rareBookChance, double toothChance,
+      VariantSampler variantSampler) {
+    this.config = config;
+    this.version = fingerprint(biomeWeights, health, damage, experience);
+    this.defaultBiomeRow = biomeWeights.length - 1;
+    this.biomeWeights = biomeWeights;
+    this.variantCount = variantCount;
+    this.health = health;
+    this.damage = damage;
+    this.experience = experience;
+    this.rareBookChance = rareBookChance;
+    this.toothChance = toothChance;
+    this.bonusThresholds = new double[variantCount * BONUS_OUTCOMES];
+    for (int variant = 0; variant < variantCount; variant++) {
+      double book = rareBookChance[variant];
+      int base = variant * BONUS_OUTCOMES;
+      bonusThresholds[base] = toothChance * book;
+      bonusThresholds[base + 1] = bonusThresholds[base] + toothChance * (1.0 - book);
+      bonusThresholds[base + 2] = bonusThresholds[base + 1] + (1.0 - toothChance) * book;
+    }
+    this.variantSampler = variantSampler;
+  }
+
+  /**
+   * Compiles a snapshot from an already validated configuration.
+   *
+   * @param config     Source configuration
+   * @param biomeIds Biome identifiers, indexed by interned biome index
+   * @param variants Variant specs, indexed by dense variant id
+   * @return Immutable snapshot
+   */
+  public static BalanceSnapshot compile(MimicConfig config, String[] biomeIds, VariantSpec[] variants) {
+    // Trailing row covers unknown biomes
+    int biomeCount = biomeIds.length + 1;
+    int variantCount = variants.length;
+    double[] biomeWeights = new double[biomeCount];
+    double[] health = new double[biomeCount * variantCount * DIFFICULTY_COUNT];
+    double[] damage = new double[health.length];
+    int[] experience = new int[variantCount];
+    double[] rareBookChance = new double[variantCount];
+
+    MimicConfig.VariantMultipliers[] multipliers = new MimicConfig.VariantMultipliers[variantCount];
+    for (int variant = 0; variant < variantCount; variant++) {
+      VariantSpec spec = variants[variant];
+      multipliers[variant] = config.getVariantMultipliers(spec.id(), new MimicConfig.VariantMultipliers(
+          spec.healthMultiplier(), spec.damageMultiplier(), spec.experienceMultiplier()));
+      rareBookChance[variant] = config.loot_settings.rare_book_drop_chance.getChance(spec.id(),
+          spec.rareBookChance());
+    }
+
+    for (int biome = 0; biome < biomeCount; biome++) {
+      // Unknown biome ids fall back to weight 1.0 inside MimicConfig
+      String biomeId = biome < biomeIds.length && biomeIds[biome] != null ? biomeIds[biome] : "";
+      biomeWeights[biome] = config.getBiomeWeight(biomeId);
+
+      for (int variant = 0; variant < variantCount; variant++) {
+        double baseHealth = config.getScaledHealth(biomeId, multipliers[variant]);
+        double baseDamage = config.getScaledDamage(biomeId, multipliers[variant]);
+
+        for (int difficulty = 0; difficulty < DIFFICULTY_COUNT; difficulty++) {
+          int index = (biome * variantCount + variant) * DIFFICULTY_COUNT + difficulty;
+          health[index] = Math.max(MIN_HEALTH, baseHealth * HEALTH_DIFFICULTY_MULTIPLIERS[difficulty]);
+          damage[index] = Math.max(MIN_DAMAGE, baseDamage * DAMAGE_DIFFICULTY_MULTIPLIERS[difficulty]);
+        }
+      }
+    }
+
+    // Experience only depends on the variant
+    for (int variant = 0; variant < variantCount; variant++) {
+      experience[variant] = Math.max(MIN_EXPERIENCE, config.getScaledExperience(multipliers[variant]));
+    }
+
+    double toothChance = config.loot_settings.always_drop_tooth ? 1.0 : config.loot_settings.tooth_drop_chance;
+
+    return new BalanceSnapshot(config, biomeWeights, variantCount, health, damage, experience, rareBookChance,
+        toothChance, VariantSampler.compile(config, variants));
+  }
+
+  /**
+   * Computes a content fingerprint of the compiled tables.
+   * Always positive, so entities can use 0 and negative values as sentinels.
+   */
+  private static int fingerprint(double[] biomeWeights, double[] health, double[] damage, int[] experience) {
+    int hash = Arrays.hashCode(biomeWeights);
+    hash = 31 * hash + Arrays.hashCode(health);
+    hash = 31 * hash + Arrays.hashCode(damage);
+    hash = 31 * hash + Arrays.hashCode(experience);
+    return (hash & Integer.MAX_VALUE) | 1;
+  }
+
+  /**
+   * Gets the version fingerprint of this snapshot.
+   * Identical tables produce identical versions, also across restarts.
+   */
+  public int version() {
+    return version;
+  }
+
+  /**
+   * Gets the configuration this snapshot was compiled from.
+   */
+  public MimicConfig config() {
+    return config;
+  }
+
+  /**
+   * Maps an interned biome index to its table row.
+   * Out-of-range indices (unknown biomes) map to the trailing default row.
+   */
+  private int row(int biome) {
+    return biome >= 0 && biome < defaultBiomeRow ? biome : defaultBiomeRow;
+  }
+
+  /**
+   * Gets the spawn weight for an interned biome index.
+   */
+  public double biomeWeight(int biome) {
+    return biomeWeights[row(biome)];
+  }
+
+  /**
+   * Gets scaled health (already clamped to the minimum of 1.0).
+   */
+  public double health(int biome, int variant, int difficulty) {
+    return health[(row(biome) * variantCount + variant) * DIFFICULTY_COUNT + difficulty];
+  }
+
+  /**
+   * Gets scaled damage (already clamped to the minimum of 0.5).
+   */
+  public double damage(int biome, int variant, int difficulty) {
+    return damage[(row(biome) * variantCount + variant) * DIFFICULTY_COUNT + difficulty];
+  }
+
+  /**
+   * Gets scaled experience (already clamped to the minimum of 1).
+   */
+  public int experience(int variant) {
+    return experience[variant];
+  }
+
+  /**
+   * Gets the number of variant columns.
+   */
+  public int variantCount() {
+    return variantCount;
+  }
+
+  /**
+   * Gets the rare book drop chance of a variant.
+   */
+  public double rareBookChance(int variant) {
+    return rareBookChance[variant];
+  }
+
+  /**
+   * Gets the chance to drop a mimic tooth.
+   */
+  public double toothChance() {
+    return toothChance;
+  }
+
+  /**
+   * Decides both config-driven bonus drops of a variant from one roll.
+   *
+   * @param variant Variant column
+   * @param roll    Uniform random value between 0 and 1
+   * @return Bitwise OR of {@link #BONUS_TOOTH} and {@link #BONUS_RARE_BOOK}
+   */
+  public int bonusLoot(int variant, double roll) {
+    int base = variant * BONUS_OUTCOMES;
+    if (roll < bonusThresholds[base]) {
+      return BONUS_TOOTH | BONUS_RARE_BOOK;
+    }
+    if (roll < bonusThresholds[base + 1]) {
+      return BONUS_TOOTH;
+    }
+    return roll < bonusThresholds[base + 2] ? BONUS_RARE_BOOK : 0;
+  }
+
+  /**
+   * Gets the compiled variant sampler.
+   */
+  public VariantSampler variantSampler() {
+    return variantSampler;
+  }
+}
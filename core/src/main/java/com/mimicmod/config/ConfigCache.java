@@ -0,0 +1,289 @@
+package com.mimicmod.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary cache of the last compiled config, {@code config/mimicmod.cache}.
+ *
+ * <p>
+ * Booting with an unchanged {@code mimicmod.json} skips parsing and
+ * validation. The cache stores the length and CRC-32C of the JSON it was
+ * compiled from, followed by the compiler's warnings and every field of the
+ * {@link MimicConfig} in a fixed order, and is decoded with plain
+ * {@link DataInputStream} reads. It is only written for configs that passed
+ * {@link ConfigCompiler}, so a hit needs no validation, and its warnings are
+ * logged again like on the boot that compiled it. A cache for different JSON,
+ * of another format or {@link ConfigCompiler#SCHEMA_VERSION schema version},
+ * or failing its own checksum is ignored and replaced after the next compile.
+ *
+ * <p>
+ * Layout: magic, format version, schema version, JSON length and checksum,
+ * payload length, payload, payload checksum. Bump {@link #FORMAT} whenever a
+ * field of {@link MimicConfig} is added, removed or reordered.
+ */
+final class ConfigCache {
+  private static final int MAGIC = 0x4D494D43; // "MIMC"
+  static final int FORMAT = 2;
+  private static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8 + 4;
+
+  private ConfigCache() {
+  }
+
+  /**
+   * Reads the cache for the given JSON.
+   *
+   * @param json Current bytes of the config file
+   * @return Cached config and warnings, or null if there is no usable cache
+   *         for the JSON
+   */
+  static ConfigCompiler.Result read(Path path, byte[] json) throws IOException {
+    byte[] cache;
+    try {
+      cache = Files.readAllBytes(path);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+    return decode(cache, json);
+  }
+
+  /**
+   * Writes the cache for a compiled config, atomically like the config
+   * itself.
+   *
+   * @param json   Bytes the config was compiled from
+   * @param result Valid compile result
+   */
+  static void write(Path path, Path tempPath, byte[] json, ConfigCompiler.Result result) throws IOException {
+    MimicConfig.writeAtomically(path, tempPath, encode(json, result));
+  }
+
+  static byte[] encode(byte[] json, ConfigCompiler.Result result) {
+    ByteArrayOutputStream payload = new ByteArrayOutputStream(1024);
+    try (DataOutputStream out = new DataOutputStream(payload)) {
+      out.writeInt(result.warnings().size());
+      for (String warning : result.warnings()) {
+        out.writeUTF(warning);
+      }
+      writeConfig(out, result.config());
+    } catch (IOException e) {
+      // In-memory streams do not throw
+      throw new IllegalStateException(e);
+    }
+    byte[] body = payload.toByteArray();
+
+    ByteBuffer cache = ByteBuffer.allocate(HEADER_BYTES + body.length + 8);
+    cache.putInt(MAGIC).putInt(FORMAT).putInt(ConfigCompiler.SCHEMA_VERSION);
+    cache.putInt(json.length).putLong(checksum(json));
+    cache.putInt(body.length).put(body).putLong(checksum(body));
+    return cache.array();
+  }
+
+  /**
+   * Decodes a cache if it was compiled from the given JSON.
+   *
+   * @return Cached config and warnings, or null if the cache is stale or
+   *         damaged
+   */
+  static ConfigCompiler.Result decode(byte[] cache, byte[] json) {
+    ByteBuffer buffer = ByteBuffer.wrap(cache);
+    if (buffer.remaining() < HEADER_BYTES + 8 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT
+        || buffer.getInt() != ConfigCompiler.SCHEMA_VERSION
+        || buffer.getInt() != json.length || buffer.getLong() != checksum(json)) {
+      return null;
+    }
+    int length = buffer.getInt();
+    if (length < 0 || length != buffer.remaining() - 8) {
+      return null;
+    }
+    byte[] body = new byte[length];
+    buffer.get(body);
+    if (buffer.getLong() != checksum(body)) {
+      return null;
+    }
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+      int warningCount = count(in);
+      List<String> warnings = new ArrayList<>(warningCount);
+      for (int i = 0; i < warningCount; i++) {
+        warnings.add(in.readUTF());
+      }
+      MimicConfig config = readConfig(in);
+      if (in.available() != 0) {
+        return null;
+      }
+      return new ConfigCompiler.Result(config, List.of(), List.copyOf(warnings));
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static long checksum(byte[] bytes) {
+    CRC32C crc = new CRC32C();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+
+  private static void writeConfig(DataOutputStream out, MimicConfig config) throws IOException {
+    MimicConfig.SpawnRates rates = config.spawn_rates;
+    out.writeDouble(rates.classic);
+    out.writeDouble(rates.corrupted);
+    out.writeDouble(rates.ender);
+    out.writeDouble(rates.christmas);
+
+    out.writeInt(config.christmas_dates.size());
+    for (String date : config.christmas_dates) {
+      out.writeUTF(date);
+    }
+
+    MimicConfig.CombatScaling scaling = config.combat_scaling;
+    out.writeDouble(scaling.health_base);
+    out.writeDouble(scaling.health_per_difficulty);
+    out.writeDouble(scaling.damage_base);
+    out.writeDouble(scaling.damage_per_difficulty);
+    out.writeInt(scaling.experience_base);
+
+    out.writeInt(config.biome_weights.size());
+    for (Map.Entry<String, Double> entry : config.biome_weights.entrySet()) {
+      out.writeUTF(entry.getKey());
+      out.writeDouble(entry.getValue());
+    }
+
+    out.writeInt(config.variant_multipliers.size());
+    for (Map.Entry<String, MimicConfig.VariantMultipliers> entry : config.variant_multipliers.entrySet()) {
+      out.writeUTF(entry.getKey());
+      out.writeDouble(entry.getValue().health);
+      out.writeDouble(entry.getValue().damage);
+      out.writeDouble(entry.getValue().experience);
+    }
+
+    MimicConfig.SpawnSettings spawn = config.spawn_settings;
+    out.writeInt(spawn.min_group_size);
+    out.writeInt(spawn.max_group_size);
+    out.writeInt(spawn.spawn_weight);
+    out.writeInt(spawn.min_light_level);
+    out.writeInt(spawn.max_light_level);
+    out.writeBoolean(spawn.spawn_in_dungeon);
+    out.writeBoolean(spawn.spawn_in_mineshaft);
+    out.writeBoolean(spawn.spawn_in_stronghold);
+    out.writeDouble(spawn.chest_replacement_chance);
+
+    MimicConfig.Behavior behavior = config.behavior;
+    out.writeInt(behavior.idle_sound_interval_ticks);
+    out.writeBoolean(behavior.reveal_on_attack);
+    out.writeBoolean(behavior.can_disguise_again);
+    out.writeDouble(behavior.aggro_range);
+    out.writeDouble(behavior.movement_speed);
+    out.writeInt(behavior.ai_tick_stride);
+
+    MimicConfig.LootSettings loot = config.loot_settings;
+    out.writeBoolean(loot.always_drop_tooth);
+    out.writeDouble(loot.tooth_drop_chance);
+    out.writeDouble(loot.rare_book_drop_chance.classic);
+    out.writeDouble(loot.rare_book_drop_chance.corrupted);
+    out.writeDouble(loot.rare_book_drop_chance.ender);
+    out.writeDouble(loot.rare_book_drop_chance.christmas);
+    out.writeDouble(loot.looting_multiplier);
+
+    MimicConfig.Debug debug = config.debug;
+    out.writeBoolean(debug.enable_spawn_logging);
+    out.writeBoolean(debug.enable_combat_logging);
+    out.writeBoolean(debug.show_hitboxes);
+  }
+
+  private static MimicConfig readConfig(DataInputStream in) throws IOException {
+    MimicConfig config = new MimicConfig();
+
+    MimicConfig.SpawnRates rates = config.spawn_rates;
+    rates.classic = in.readDouble();
+    rates.corrupted = in.readDouble();
+    rates.ender = in.readDouble();
+    rates.christmas = in.readDouble();
+
+    int dateCount = count(in);
+    List<String> dates = new ArrayList<>(dateCount);
+    for (int i = 0; i < dateCount; i++) {
+      dates.add(in.readUTF());
+    }
+    config.christmas_dates = dates;
+
+    MimicConfig.CombatScaling scaling = config.combat_scaling;
+    scaling.health_base = in.readDouble();
+    scaling.health_per_difficulty = in.readDouble();
+    scaling.damage_base = in.readDouble();
+    scaling.damage_per_difficulty = in.readDouble();
+    scaling.experience_base = in.readInt();
+
+    int biomeCount = count(in);
+    Map<String, Double> biomeWeights = new HashMap<>(biomeCount * 2);
+    for (int i = 0; i < biomeCount; i++) {
+      biomeWeights.put(in.readUTF(), in.readDouble());
+    }
+    config.biome_weights = biomeWeights;
+
+    int variantCount = count(in);
+    Map<String, MimicConfig.VariantMultipliers> multipliers = new HashMap<>(variantCount * 2);
+    for (int i = 0; i < variantCount; i++) {
+      String variant = in.readUTF();
+      multipliers.put(variant, new MimicConfig.VariantMultipliers(in.readDouble(), in.readDouble(),
+          in.readDouble()));
+    }
+    config.variant_multipliers = multipliers;
+
+    MimicConfig.SpawnSettings spawn = config.spawn_settings;
+    spawn.min_group_size = in.readInt();
+    spawn.max_group_size = in.readInt();
+    spawn.spawn_weight = in.readInt();
+    spawn.min_light_level = in.readInt();
+    spawn.max_light_level = in.readInt();
+    spawn.spawn_in_dungeon = in.readBoolean();
+    spawn.spawn_in_mineshaft = in.readBoolean();
+    spawn.spawn_in_stronghold = in.readBoolean();
+    spawn.chest_replacement_chance = in.readDouble();
+
+    MimicConfig.Behavior behavior = config.behavior;
+    behavior.idle_sound_interval_ticks = in.readInt();
+    behavior.reveal_on_attack = in.readBoolean();
+    behavior.can_disguise_again = in.readBoolean();
+    behavior.aggro_range = in.readDouble();
+    behavior.movement_speed = in.readDouble();
+    behavior.ai_tick_stride = in.readInt();
+
+    MimicConfig.LootSettings loot = config.loot_settings;
+    loot.always_drop_tooth = in.readBoolean();
+    loot.tooth_drop_chance = in.readDouble();
+    loot.rare_book_drop_chance.classic = in.readDouble();
+    loot.rare_book_drop_chance.corrupted = in.readDouble();
+    loot.rare_book_drop_chance.ender = in.readDouble();
+    loot.rare_book_drop_chance.christmas = in.readDouble();
+    loot.looting_multiplier = in.readDouble();
+
+    MimicConfig.Debug debug = config.debug;
+    debug.enable_spawn_logging = in.readBoolean();
+    debug.enable_combat_logging = in.readBoolean();
+    debug.show_hitboxes = in.readBoolean();
+
+    return config;
+  }
+
+  private static int count(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    // Also bounded by the payload, which passed its checksum
+    if (count < 0 || count > in.available()) {
+      throw new IOException("Invalid element count " + count);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,500 @@
+package com.mimicmod.config;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.mimicmod.perf.event.MimicConfigValidationEvent;
+
+import java.time.DateTimeException;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One-pass compiler from the text of {@code config/mimicmod.json} to a
+ * validated {@link MimicConfig}.
+ *
+ * <p>
+ * The JSON is parsed into a tree and walked once against the schema of
+ * {@link MimicConfig}, assigning fields directly rather than through Gson's
+ * reflection. Problems are collected instead of stopping at the first, each
+ * prefixed with the JSON path of the offending value, e.g.
+ * {@code $.combat_scaling.health_base: must be greater than 0.0, got -2.0}.
+ * Missing fields keep their defaults, as they did with Gson. Unknown fields
+ * are only warnings, since the config still loads without them, but they are
+ * usually typos.
+ *
+ * <p>
+ * The walk checks types; the value rules live in {@link #check(MimicConfig)},
+ * which runs on the walked config and is also what
+ * {@link MimicConfig#validate()} runs on configs built in code.
+ */
+public final class ConfigCompiler {
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+  /**
+   * Version of the schema and validation rules. Bump it with any change that
+   * can accept or reject a file differently, so cached results of older
+   * versions are compiled again.
+   */
+  public static final int SCHEMA_VERSION = 1;
+
+  private ConfigCompiler() {
+  }
+
+  /**
+   * Outcome of compiling a config.
+   *
+   * @param config   Compiled config, or null if there were errors
+   * @param errors   Problems that reject the config, with JSON paths
+   * @param warnings Problems that do not, with JSON paths
+   */
+  public record Result(MimicConfig config, List<String> errors, List<String> warnings) {
+
+    /**
+     * Wraps a config that is already known to be valid, e.g. from the cache.
+     */
+    public static Result of(MimicConfig config) {
+      return new Result(config, List.of(), List.of());
+    }
+
+    /**
+     * Creates a result rejecting a config file as a whole.
+     */
+    public static Result failure(String error) {
+      return new Result(null, List.of(error), List.of());
+    }
+
+    public boolean isValid() {
+      return errors.isEmpty();
+    }
+  }
+
+  /**
+   * Parses, type checks and validates a config.
+   *
+   * @param json Text of the config file
+   * @return Compiled config with every error and warning found
+   */
+  public static Result compile(String json) {
+    MimicConfigValidationEvent event = new MimicConfigValidationEvent();
+    event.begin();
+
+    Walker walker = new Walker();
+    MimicConfig config = null;
+    try {
+      config = walker.config(JsonParser.parseString(json));
+    } catch (JsonParseException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      walker.errors.add("$: malformed JSON, " + cause.getMessage());
+    }
+    if (config != null) {
+      walker.errors.addAll(check(config));
+    }
+
+    event.end();
+    boolean valid = walker.errors.isEmpty();
+    if (event.shouldCommit()) {
+      event.valid = valid;
+      event.commit();
+    }
+    return new Result(valid ? config : null, List.copyOf(walker.errors), List.copyOf(walker.warnings));
+  }
+
+  /**
+   * Checks the values of a config against every rule.
+   *
+   * @return Problems found, with JSON paths; empty if the config is valid
+   */
+  public static List<String> check(MimicConfig config) {
+    List<String> errors = new ArrayList<>();
+
+    MimicConfig.SpawnRates rates = config.spawn_rates;
+    atLeast(errors, "$.spawn_rates.classic", rates.classic, 0.0);
+    atLeast(errors, "$.spawn_rates.corrupted", rates.corrupted, 0.0);
+    atLeast(errors, "$.spawn_rates.ender", rates.ender, 0.0);
+    atLeast(errors, "$.spawn_rates.christmas", rates.christmas, 0.0);
+    double totalSpawnRate = rates.classic + rates.corrupted + rates.ender + rates.christmas;
+    if (!(Math.abs(totalSpawnRate - 1.0) <= 0.01)) {
+      errors.add("$.spawn_rates: must sum to 1.0, got " + totalSpawnRate);
+    }
+
+    // Null entries only come from values the walk already rejected
+    for (int i = 0; i < config.christmas_dates.size(); i++) {
+      String date = config.christmas_dates.get(i);
+      if (date != null && !isDate(date)) {
+        errors.add("$.christmas_dates[" + i + "]: must be a date formatted MM-dd, got \"" + date + "\"");
+      }
+    }
+
+    MimicConfig.CombatScaling scaling = config.combat_scaling;
+    greaterThan(errors, "$.combat_scaling.health_base", scaling.health_base, 0.0);
+    finite(errors, "$.combat_scaling.health_per_difficulty", scaling.health_per_difficulty);
+    greaterThan(errors, "$.combat_scaling.damage_base", scaling.damage_base, 0.0);
+    finite(errors, "$.combat_scaling.damage_per_difficulty", scaling.damage_per_difficulty);
+    atLeast(errors, "$.combat_scaling.experience_base", scaling.experience_base, 0);
+
+    for (Map.Entry<String, Double> entry : config.biome_weights.entrySet()) {
+      atLeast(errors, "$.biome_weights" + key(entry.getKey()), entry.getValue(), 0.0);
+    }
+
+    for (Map.Entry<String, MimicConfig.VariantMultipliers> entry : config.variant_multipliers.entrySet()) {
+      String path = "$.variant_multipliers" + key(entry.getKey());
+      atLeast(errors, path + ".health", entry.getValue().health, 0.0);
+      atLeast(errors, path + ".damage", entry.getValue().damage, 0.0);
+      atLeast(errors, path + ".experience", entry.getValue().experience, 0.0);
+    }
+
+    MimicConfig.SpawnSettings spawn = config.spawn_settings;
+    atLeast(errors, "$.spawn_settings.min_group_size", spawn.min_group_size, 1);
+    if (spawn.min_group_size > spawn.max_group_size) {
+      errors.add("$.spawn_settings.max_group_size: must be at least min_group_size ("
+          + spawn.min_group_size + "), got " + spawn.max_group_size);
+    }
+    atLeast(errors, "$.spawn_settings.spawn_weight", spawn.spawn_weight, 0);
+    between(errors, "$.spawn_settings.min_light_level", spawn.min_light_level, 0, 15);
+    between(errors, "$.spawn_settings.max_light_level", spawn.max_light_level, 0, 15);
+    if (spawn.min_light_level > spawn.max_light_level) {
+      errors.add("$.spawn_settings.max_light_level: must be at least min_light_level ("
+          + spawn.min_light_level + "), got " + spawn.max_light_level);
+    }
+    between(errors, "$.spawn_settings.chest_replacement_chance", spawn.chest_replacement_chance, 0.0, 1.0);
+
+    MimicConfig.Behavior behavior = config.behavior;
+    atLeast(errors, "$.behavior.idle_sound_interval_ticks", behavior.idle_sound_interval_ticks, 1);
+    atLeast(errors, "$.behavior.aggro_range", behavior.aggro_range, 0.0);
+    atLeast(errors, "$.behavior.movement_speed", behavior.movement_speed, 0.0);
+    atLeast(errors, "$.behavior.ai_tick_stride", behavior.ai_tick_stride, 1);
+
+    MimicConfig.LootSettings loot = config.loot_settings;
+    between(errors, "$.loot_settings.tooth_drop_chance", loot.tooth_drop_chance, 0.0, 1.0);
+    MimicConfig.LootSettings.RareBookDropChance books = loot.rare_book_drop_chance;
+    between(errors, "$.loot_settings.rare_book_drop_chance.classic", books.classic, 0.0, 1.0);
+    between(errors, "$.loot_settings.rare_book_drop_chance.corrupted", books.corrupted, 0.0, 1.0);
+    between(errors, "$.loot_settings.rare_book_drop_chance.ender", books.ender, 0.0, 1.0);
+    between(errors, "$.loot_settings.rare_book_drop_chance.christmas", books.christmas, 0.0, 1.0);
+    atLeast(errors, "$.loot_settings.looting_multiplier", loot.looting_multiplier, 0.0);
+
+    return errors;
+  }
+
+  private static boolean isDate(String date) {
+    try {
+      MonthDay.parse(date, DATE_FORMATTER);
+      return true;
+    } catch (DateTimeException e) {
+      return false;
+    }
+  }
+
+  // Comparisons are negated so NaN fails them
+
+  private static void finite(List<String> errors, String path, double value) {
+    if (!Double.isFinite(value)) {
+      errors.add(path + ": must be a finite number, got " + value);
+    }
+  }
+
+  private static void greaterThan(List<String> errors, String path, double value, double min) {
+    if (!(value > min)) {
+      errors.add(path + ": must be greater than " + min + ", got " + value);
+    }
+  }
+
+  private static void atLeast(List<String> errors, String path, double value, double min) {
+    if (!(value >= min)) {
+      errors.add(path + ": must be at least " + min + ", got " + value);
+    }
+  }
+
+  private static void atLeast(List<String> errors, String path, int value, int min) {
+    if (value < min) {
+      errors.add(path + ": must be at least " + min + ", got " + value);
+    }
+  }
+
+  private static void between(List<String> errors, String path, double value, double min, double max) {
+    if (!(value >= min && value <= max)) {
+      errors.add(path + ": must be between " + min + " and " + max + ", got " + value);
+    }
+  }
+
+  private static void between(List<String> errors, String path, int value, int min, int max) {
+    if (value < min || value > max) {
+      errors.add(path + ": must be between " + min + " and " + max + ", got " + value);
+    }
+  }
+
+  /**
+   * Formats a map key as a path segment, quoted since ids contain colons.
+   */
+  private static String key(String key) {
+    return "[\"" + key + "\"]";
+  }
+
+  /**
+   * Walks a parsed config, type checking every value on the way.
+   */
+  private static final class Walker {
+    private final List<String> errors = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+
+    MimicConfig config(JsonElement element) {
+      Section root = section(element, "$");
+      if (root == null) {
+        return null;
+      }
+
+      MimicConfig config = new MimicConfig();
+
+      Section rates = root.section("spawn_rates");
+      if (rates != null) {
+        MimicConfig.SpawnRates target = config.spawn_rates;
+        target.classic = rates.number("classic", target.classic);
+        target.corrupted = rates.number("corrupted", target.corrupted);
+        target.ender = rates.number("ender", target.ender);
+        target.christmas = rates.number("christmas", target.christmas);
+        rates.finish();
+      }
+
+      JsonElement dates = root.element("christmas_dates");
+      if (dates != null) {
+        config.christmas_dates = dates(dates, "$.christmas_dates");
+      }
+
+      Section scaling = root.section("combat_scaling");
+      if (scaling != null) {
+        MimicConfig.CombatScaling target = config.combat_scaling;
+        target.health_base = scaling.number("health_base", target.health_base);
+        target.health_per_difficulty = scaling.number("health_per_difficulty", target.health_per_difficulty);
+        target.damage_base = scaling.number("damage_base", target.damage_base);
+        target.damage_per_difficulty = scaling.number("damage_per_difficulty", target.damage_per_difficulty);
+        target.experience_base = scaling.integer("experience_base", target.experience_base);
+        scaling.finish();
+      }
+
+      Section weights = root.section("biome_weights");
+      if (weights != null) {
+        Map<String, Double> biomeWeights = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : weights.object.entrySet()) {
+          String path = "$.biome_weights" + key(entry.getKey());
+          biomeWeights.put(entry.getKey(), number(entry.getValue(), path, 1.0));
+        }
+        config.biome_weights = biomeWeights;
+      }
+
+      Section multipliers = root.section("variant_multipliers");
+      if (multipliers != null) {
+        Map<String, MimicConfig.VariantMultipliers> variantMultipliers = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : multipliers.object.entrySet()) {
+          Section value = section(entry.getValue(), "$.variant_multipliers" + key(entry.getKey()));
+          if (value != null) {
+            MimicConfig.VariantMultipliers target = new MimicConfig.VariantMultipliers();
+            target.health = value.number("health", target.health);
+            target.damage = value.number("damage", target.damage);
+            target.experience = value.number("experience", target.experience);
+            value.finish();
+            variantMultipliers.put(entry.getKey(), target);
+          }
+        }
+        config.variant_multipliers = variantMultipliers;
+      }
+
+      Section spawn = root.section("spawn_settings");
+      if (spawn != null) {
+        MimicConfig.SpawnSettings target = config.spawn_settings;
+        target.min_group_size = spawn.integer("min_group_size", target.min_group_size);
+        target.max_group_size = spawn.integer("max_group_size", target.max_group_size);
+        target.spawn_weight = spawn.integer("spawn_weight", target.spawn_weight);
+        target.min_light_level = spawn.integer("min_light_level", target.min_light_level);
+        target.max_light_level = spawn.integer("max_light_level", target.max_light_level);
+        target.spawn_in_dungeon = spawn.bool("spawn_in_dungeon", target.spawn_in_dungeon);
+        target.spawn_in_mineshaft = spawn.bool("spawn_in_mineshaft", target.spawn_in_mineshaft);
+        target.spawn_in_stronghold = spawn.bool("spawn_in_stronghold", target.spawn_in_stronghold);
+        target.chest_replacement_chance = spawn.number("chest_replacement_chance",
+            target.chest_replacement_chance);
+        spawn.finish();
+      }
+
+      Section behavior = root.section("behavior");
+      if (behavior != null) {
+        MimicConfig.Behavior target = config.behavior;
+        target.idle_sound_interval_ticks = behavior.integer("idle_sound_interval_ticks",
+            target.idle_sound_interval_ticks);
+        target.reveal_on_attack = behavior.bool("reveal_on_attack", target.reveal_on_attack);
+        target.can_disguise_again = behavior.bool("can_disguise_again", target.can_disguise_again);
+        target.aggro_range = behavior.number("aggro_range", target.aggro_range);
+        target.movement_speed = behavior.number("movement_speed", target.movement_speed);
+        target.ai_tick_stride = behavior.integer("ai_tick_stride", target.ai_tick_stride);
+        behavior.finish();
+      }
+
+      Section loot = root.section("loot_settings");
+      if (loot != null) {
+        MimicConfig.LootSettings target = config.loot_settings;
+        target.always_drop_tooth = loot.bool("always_drop_tooth", target.always_drop_tooth);
+        target.tooth_drop_chance = loot.number("tooth_drop_chance", target.tooth_drop_chance);
+        target.looting_multiplier = loot.number("looting_multiplier", target.looting_multiplier);
+
+        Section books = loot.section("rare_book_drop_chance");
+        if (books != null) {
+          MimicConfig.LootSettings.RareBookDropChance chances = target.rare_book_drop_chance;
+          chances.classic = books.number("classic", chances.classic);
+          chances.corrupted = books.number("corrupted", chances.corrupted);
+          chances.ender = books.number("ender", chances.ender);
+          chances.christmas = books.number("christmas", chances.christmas);
+          books.finish();
+        }
+        loot.finish();
+      }
+
+      Section debug = root.section("debug");
+      if (debug != null) {
+        MimicConfig.Debug target = config.debug;
+        target.enable_spawn_logging = debug.bool("enable_spawn_logging", target.enable_spawn_logging);
+        target.enable_combat_logging = debug.bool("enable_combat_logging", target.enable_combat_logging);
+        target.show_hitboxes = debug.bool("show_hitboxes", target.show_hitboxes);
+        debug.finish();
+      }
+
+      root.finish();
+      return config;
+    }
+
+    private List<String> dates(JsonElement element, String path) {
+      List<String> dates = new ArrayList<>();
+      if (!element.isJsonArray()) {
+        errors.add(path + ": expected an array, got " + describe(element));
+        return dates;
+      }
+      JsonArray array = element.getAsJsonArray();
+      for (int i = 0; i < array.size(); i++) {
+        JsonElement date = array.get(i);
+        if (date.isJsonPrimitive() && date.getAsJsonPrimitive().isString()) {
+          dates.add(date.getAsString());
+        } else {
+          errors.add(path + "[" + i + "]: expected a string, got " + describe(date));
+          // Keeps the indices of later entries in line with the file
+          dates.add(null);
+        }
+      }
+      return dates;
+    }
+
+    /**
+     * Opens an object for reading, or reports it and returns null if the
+     * value is not an object.
+     */
+    private Section section(JsonElement element, String path) {
+      if (element.isJsonObject()) {
+        return new Section(element.getAsJsonObject(), path);
+      }
+      errors.add(path + ": expected an object, got " + describe(element));
+      return null;
+    }
+
+    private double number(JsonElement element, String path, double fallback) {
+      if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) {
+        double value = element.getAsDouble();
+        if (Double.isFinite(value)) {
+          return value;
+        }
+      }
+      errors.add(path + ": expected a number, got " + describe(element));
+      return fallback;
+    }
+
+    private int integer(JsonElement element, String path, int fallback) {
+      if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) {
+        double value = element.getAsDouble();
+        if (value == Math.rint(value) && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+          return (int) value;
+        }
+      }
+      errors.add(path + ": expected an integer, got " + describe(element));
+      return fallback;
+    }
+
+    private boolean bool(JsonElement element, String path, boolean fallback) {
+      if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isBoolean()) {
+        return element.getAsBoolean();
+      }
+      errors.add(path + ": expected true or false, got " + describe(element));
+      return fallback;
+    }
+
+    private static String describe(JsonElement element) {
+      if (element.isJsonNull()) {
+        return "null";
+      }
+      if (element.isJsonObject()) {
+        return "an object";
+      }
+      if (element.isJsonArray()) {
+        return "an array";
+      }
+      JsonPrimitive primitive = element.getAsJsonPrimitive();
+      return primitive.isString() ? "\"" + primitive.getAsString() + "\"" : primitive.toString();
+    }
+
+    /**
+     * Fixed-field object being read. Every field the walk asks for is
+     * recorded, so the walk itself is the list of known fields and
+     * {@link #finish()} can report the rest as unknown.
+     */
+    private final class Section {
+      private final JsonObject object;
+      private final String path;
+      private final Set<String> known = new HashSet<>();
+
+      private Section(JsonObject object, String path) {
+        this.object = object;
+        this.path = path;
+      }
+
+      JsonElement element(String key) {
+        known.add(key);
+        return object.get(key);
+      }
+
+      Section section(String key) {
+        JsonElement element = element(key);
+        return element != null ? Walker.this.section(element, path + "." + key) : null;
+      }
+
+      double number(String key, double fallback) {
+        JsonElement element = element(key);
+        return element != null ? Walker.this.number(element, path + "." + key, fallback) : fallback;
+      }
+
+      int integer(String key, int fallback) {
+        JsonElement element = element(key);
+        return element != null ? Walker.this.integer(element, path + "." + key, fallback) : fallback;
+      }
+
+      boolean bool(String key, boolean fallback) {
+        JsonElement element = element(key);
+        return element != null ? Walker.this.bool(element, path + "." + key, fallback) : fallback;
+      }
+
+      /**
+       * Reports fields that were never read as unknown.
+       */
+      void finish() {
+        for (String key : object.keySet()) {
+          if (!known.contains(key)) {
+            warnings.add(path + "." + key + ": unknown field, ignored");
+          }
+        }
+      }
+    }
+  }
+}
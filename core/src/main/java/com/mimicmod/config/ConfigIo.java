@@ -0,0 +1,148 @@
+package com.mimicmod.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Config file I/O off the tick loop.
+ *
+ * <p>
+ * All reads and writes of {@code config/mimicmod.json} run one at a time on a
+ * single dedicated virtual thread, so a stalled disk parks that thread and
+ * nothing else. Reads compile and validate there too, through the
+ * {@link ConfigCache} or {@link ConfigCompiler}. Writes go through
+ * {@link MimicConfig#write(MimicConfig)}, i.e. a temporary file and an atomic
+ * move.
+ *
+ * <p>
+ * Saves are debounced: {@link #saveAsync(MimicConfig)} only records the
+ * latest config, and the write happens {@link #SAVE_DEBOUNCE_MILLIS} after the
+ * first unsaved change, so a burst of saves costs one write.
+ *
+ * <p>
+ * Results reach the game through a completion queue. Callbacks passed to
+ * {@link #deliver(CompletableFuture, BiConsumer)} are queued when their future
+ * completes and run by {@link #drainCompletions()}, which the mod calls once
+ * per server tick. The tick loop therefore never waits on I/O, and published
+ * changes always land between ticks.
+ */
+public final class ConfigIo {
+  private static final Logger LOGGER = LoggerFactory.getLogger("mimicmod");
+
+  /**
+   * Delay between the first unsaved change and the write.
+   */
+  public static final long SAVE_DEBOUNCE_MILLIS = 500;
+
+  private static final ExecutorService IO = Executors.newSingleThreadExecutor(
+      Thread.ofVirtual().name("Mimic Config IO").factory());
+  private static final Executor DEBOUNCED_IO = CompletableFuture.delayedExecutor(
+      SAVE_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, IO);
+
+  private static final AtomicReference<MimicConfig> PENDING_SAVE = new AtomicReference<>();
+  private static final Queue<Runnable> COMPLETIONS = new ConcurrentLinkedQueue<>();
+
+  private ConfigIo() {
+  }
+
+  /**
+   * Reads, parses and validates the config file on the I/O thread.
+   *
+   * @return Future completing on the I/O thread with the compiled config, or
+   *         the errors that rejected the file
+   */
+  public static CompletableFuture<ConfigCompiler.Result> readAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return MimicConfig.read();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to read " + MimicConfig.getPath(), e);
+      }
+    }, IO);
+  }
+
+  /**
+   * Schedules a config to be written. Repeated calls within the debounce
+   * window are coalesced; only the latest config is written.
+   */
+  public static void saveAsync(MimicConfig config) {
+    if (PENDING_SAVE.getAndSet(config) == null) {
+      DEBOUNCED_IO.execute(ConfigIo::writePending);
+    }
+  }
+
+  /**
+   * Writes a pending save right away and waits for it, e.g. when the server
+   * stops.
+   *
+   * @param timeoutMillis Longest time to wait for the disk
+   */
+  public static void flush(long timeoutMillis) {
+    if (PENDING_SAVE.get() == null) {
+      return;
+    }
+    try {
+      CompletableFuture.runAsync(ConfigIo::writePending, IO).get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      LOGGER.warn("Config save did not finish within {}ms", timeoutMillis, e);
+    }
+  }
+
+  private static void writePending() {
+    MimicConfig config = PENDING_SAVE.getAndSet(null);
+    if (config == null) {
+      return;
+    }
+    try {
+      MimicConfig.write(config);
+      LOGGER.info("Configuration saved to {}", MimicConfig.getPath());
+    } catch (IOException e) {
+      LOGGER.error("Failed to save configuration", e);
+    }
+  }
+
+  /**
+   * Hands the outcome of a future to the tick loop.
+   *
+   * @param future   Future, typically completed on the I/O thread
+   * @param callback Run by {@link #drainCompletions()} with the result or the
+   *                 failure
+   */
+  public static <T> void deliver(CompletableFuture<T> future, BiConsumer<? super T, ? super Throwable> callback) {
+    future.whenComplete((result, error) -> COMPLETIONS.add(() -> callback.accept(result, error)));
+  }
+
+  /**
+   * Runs all queued completions. Called from the tick loop only.
+   *
+   * @return Number of completions run
+   */
+  public static int drainCompletions() {
+    int count = 0;
+    Runnable completion;
+    while ((completion = COMPLETIONS.poll()) != null) {
+      try {
+        completion.run();
+      } catch (RuntimeException e) {
+        LOGGER.error("Config completion failed", e);
+      }
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,531 @@
+package com.mimicmod.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mimicmod.perf.event.MimicConfigLoadEvent;
+import com.mimicmod.perf.event.MimicConfigValidationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Configuration system for Mimic Mod.
+ * Handles loading, validation, and default configuration values.
+ *
+ * <p>
+ * The file is read through {@link ConfigCompiler}, which validates it in one
+ * pass without reflection, and the result is kept in a binary
+ * {@link ConfigCache}, so later boots with the same file skip both steps.
+ * Gson is only used to write the file.
+ *
+ * <p>
+ * Part of the {@code core} module: no Minecraft or Fabric types, so parsing,
+ * validation and the compiled tables built from it can be exercised without
+ * starting the game.
+ */
+public class MimicConfig {
+  // Same logger name as MimicMod.LOGGER
+  private static final Logger LOGGER = LoggerFactory.getLogger("mimicmod");
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+  private static final Path CONFIG_PATH = Paths.get("config", "mimicmod.json");
+  // Written first and moved over CONFIG_PATH, so a crash never truncates the config
+  private static final Path TEMP_PATH = Paths.get("config", "mimicmod.json.tmp");
+  // Copy of a config file that failed to load, kept so the edits are not lost
+  private static final Path INVALID_PATH = Paths.get("config", "mimicmod.json.invalid");
+  private static final Path CACHE_PATH = Paths.get("config", "mimicmod.cache");
+  private static final Path CACHE_TEMP_PATH = Paths.get("config", "mimicmod.cache.tmp");
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+  // Main configuration sections
+  public SpawnRates spawn_rates = new SpawnRates();
+  public List<String> christmas_dates = new ArrayList<>();
+  public CombatScaling combat_scaling = new CombatScaling();
+  public Map<String, Double> biome_weights = new HashMap<>();
+  public Map<String, VariantMultipliers> variant_multipliers = new HashMap<>();
+  public SpawnSettings spawn_settings = new SpawnSettings();
+  public Behavior behavior = new Behavior();
+  public LootSettings loot_settings = new LootSettings();
+  public Debug debug = new Debug();
+
+  /**
+   * Spawn rates for each variant (should total 1.0).
+   */
+  public static class SpawnRates {
+    public double classic = 0.70;
+    public double corrupted = 0.20;
+    public double ender = 0.08;
+    public double christmas = 0.02;
+
+    public double getRate(String variant) {
+      return getRate(variant, classic);
+    }
+
+    /**
+     * Gets the rate of a variant, or a fallback for variants without a field
+     * here (defined only by a data pack).
+     */
+    public double getRate(String variant, double fallback) {
+      return switch (variant) {
+        case "classic" -> classic;
+        case "corrupted" -> corrupted;
+        case "ender" -> ender;
+        case "christmas" -> christmas;
+        default -> fallback;
+      };
+    }
+  }
+
+  /**
+   * Combat scaling configuration for health and damage.
+   */
+  public static class CombatScaling {
+    public double health_base = 24.0;
+    public double health_per_difficulty = 8.0;
+    public double damage_base = 4.0;
+    public double damage_per_difficulty = 2.0;
+    public int experience_base = 10;
+  }
+
+  /**
+   * Variant-specific multipliers for stats.
+   */
+  public static class VariantMultipliers {
+    public double health = 1.0;
+    public double damage = 1.0;
+    public double experience = 1.0;
+
+    public VariantMultipliers() {
+    }
+
+    public VariantMultipliers(double health, double damage, double experience) {
+      this.health = health;
+      this.damage = damage;
+      this.experience = experience;
+    }
+  }
+
+  /**
+   * Spawn settings for world generation.
+   */
+  public static class SpawnSettings {
+    public int min_group_size = 1;
+    public int max_group_size = 1;
+    public int spawn_weight = 8;
+    public int min_light_level = 0;
+    public int max_light_level = 7;
+    public boolean spawn_in_dungeon = true;
+    public boolean spawn_in_mineshaft = true;
+    public boolean spawn_in_stronghold = true;
+    public double chest_replacement_chance = 0.0;
+  }
+
+  /**
+   * Behavior settings for mimic entities.
+   */
+  public static class Behavior {
+    public int idle_sound_interval_ticks = 200;
+    public boolean reveal_on_attack = true;
+    public boolean can_disguise_again = false;
+    public double aggro_range = 24.0;
+    public double movement_speed = 0.23;
+    public int ai_tick_stride = 4;
+  }
+
+  /**
+   * Loot drop settings.
+   */
+  public static class LootSettings {
+    public boolean always_drop_tooth = true;
+    public double tooth_drop_chance = 0.8;
+    public RareBookDropChance rare_book_drop_chance = new RareBookDropChance();
+    public double looting_multiplier = 0.5;
+
+    public static class RareBookDropChance {
+      public double classic = 0.15;
+      public double corrupted = 0.25;
+      public double ender = 0.30;
+      public double christmas = 0.50;
+
+      public double getChance(String variant) {
+        return getChance(variant, classic);
+      }
+
+      /**
+       * Gets the chance of a variant, or a fallback for variants without a
+       * field here (defined only by a data pack).
+       */
+      public double getChance(String variant, double fallback) {
+        return switch (variant) {
+          case "classic" -> classic;
+          case "corrupted" -> corrupted;
+          case "ender" -> ender;
+          case "christmas" -> christmas;
+          default -> fallback;
+        };
+      }
+    }
+  }
+
+  /**
+   * Debug settings for development.
+   */
+  public static class Debug {
+    public boolean enable_spawn_logging = false;
+    public boolean enable_combat_logging = false;
+    public boolean show_hitboxes = false;
+  }
+
+  /**
+   * Loads configuration from disk or creates default if not found.
+   *
+   * <p>
+   * A file that exists but cannot be parsed or fails validation is never
+   * overwritten: it is copied to {@code mimicmod.json.invalid} and defaults are
+   * used for this session only. The default file for a fresh install is
+   * written through {@link ConfigIo#saveAsync(MimicConfig)}. An unchanged
+   * file is loaded from {@code mimicmod.cache} without being parsed again.
+   */
+  public static MimicConfig load() {
+    MimicConfigLoadEvent event = new MimicConfigLoadEvent();
+    event.begin();
+    try {
+      // Create config directory if it doesn't exist
+      Files.createDirectories(CONFIG_PATH.getParent());
+      // Left behind by a write that never reached its move; the config itself is intact
+      Files.deleteIfExists(TEMP_PATH);
+      Files.deleteIfExists(CACHE_TEMP_PATH);
+
+      if (Files.notExists(CONFIG_PATH)) {
+        LOGGER.info("Config file not found, creating default configuration");
+        MimicConfig defaultConfig = createDefaults();
+        ConfigIo.saveAsync(defaultConfig);
+        return commitLoad(event, "created defaults", defaultConfig);
+      }
+
+      byte[] json = Files.readAllBytes(CONFIG_PATH);
+      ConfigCompiler.Result cached = ConfigCache.read(CACHE_PATH, json);
+      if (cached != null) {
+        logWarnings(cached);
+        LOGGER.info("Configuration loaded from {} (cached)", CONFIG_PATH);
+        return commitLoad(event, "loaded from cache", cached.config());
+      }
+
+      ConfigCompiler.Result result = compile(json);
+      if (!result.isValid()) {
+        Files.copy(CONFIG_PATH, INVALID_PATH, StandardCopyOption.REPLACE_EXISTING);
+        LOGGER.error("Invalid configuration in {} ({} errors), using defaults for this session "
+            + "(copy kept at {})", CONFIG_PATH, result.errors().size(), INVALID_PATH);
+        return commitLoad(event, "invalid, using defaults", createDefaults());
+      }
+
+      LOGGER.info("Configuration loaded from {}", CONFIG_PATH);
+      return commitLoad(event, "loaded", result.config());
+
+    } catch (IOException e) {
+      LOGGER.error("Failed to load configuration", e);
+      return commitLoad(event, "error, using defaults", createDefaults());
+    }
+  }
+
+  private static MimicConfig commitLoad(MimicConfigLoadEvent event, String outcome, MimicConfig config) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.reload = false;
+      event.outcome = outcome;
+      event.commit();
+    }
+    return config;
+  }
+
+  /**
+   * Reads and validates the configuration file without falling back to
+   * defaults. Does blocking I/O; call through {@link ConfigIo#readAsync()}.
+   *
+   * @return Compiled configuration, or the errors that rejected the file
+   */
+  public static ConfigCompiler.Result read() throws IOException {
+    if (Files.notExists(CONFIG_PATH)) {
+      LOGGER.warn("Config file {} does not exist", CONFIG_PATH);
+      return ConfigCompiler.Result.failure(CONFIG_PATH + " does not exist");
+    }
+
+    byte[] json = Files.readAllBytes(CONFIG_PATH);
+    ConfigCompiler.Result cached = ConfigCache.read(CACHE_PATH, json);
+    if (cached != null) {
+      logWarnings(cached);
+      return cached;
+    }
+    return compile(json);
+  }
+
+  /**
+   * Compiles the bytes of the config file, logs what the compiler found, and
+   * caches a valid result for the next boot.
+   */
+  private static ConfigCompiler.Result compile(byte[] json) {
+    ConfigCompiler.Result result = ConfigCompiler.compile(new String(json, StandardCharsets.UTF_8));
+    logWarnings(result);
+    for (String error : result.errors()) {
+      LOGGER.error("{}: {}", CONFIG_PATH, error);
+    }
+
+    if (result.isValid()) {
+      try {
+        ConfigCache.write(CACHE_PATH, CACHE_TEMP_PATH, json, result);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to write config cache {}", CACHE_PATH, e);
+      }
+    }
+    return result;
+  }
+
+  private static void logWarnings(ConfigCompiler.Result result) {
+    for (String warning : result.warnings()) {
+      LOGGER.warn("{}: {}", CONFIG_PATH, warning);
+    }
+  }
+
+  /**
+   * Gets the path of the configuration file.
+   */
+  public static Path getPath() {
+    return CONFIG_PATH;
+  }
+
+  /**
+   * Saves configuration to disk on the calling thread. Prefer
+   * {@link ConfigIo#saveAsync(MimicConfig)} anywhere near the tick loop.
+   */
+  public static void save(MimicConfig config) {
+    try {
+      write(config);
+      LOGGER.info("Configuration saved to {}", CONFIG_PATH);
+    } catch (IOException e) {
+      LOGGER.error("Failed to save configuration", e);
+    }
+  }
+
+  /**
+   * Writes configuration to disk atomically. The JSON goes to a temporary
+   * file next to the config, is forced to disk, and then replaces the config
+   * in a single move, so readers and crashes see either the old or the new
+   * file, never a truncated one.
+   *
+   * @throws IOException If the file could not be written
+   */
+  static void write(MimicConfig config) throws IOException {
+    writeAtomically(CONFIG_PATH, TEMP_PATH, GSON.toJson(config).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes bytes to a temporary file, forces them to disk and moves the file
+   * over the target.
+   */
+  static void writeAtomically(Path path, Path tempPath, byte[] bytes) throws IOException {
+    Files.createDirectories(path.getParent());
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Creates default configuration with sensible values.
+   */
+  public static MimicConfig createDefaults() {
+    MimicConfig config = new MimicConfig();
+
+    // Spawn rates
+    config.spawn_rates = new SpawnRates();
+
+    // Christmas dates
+    config.christmas_dates = Arrays.asList("12-24", "12-25", "12-26");
+
+    // Combat scaling
+    config.combat_scaling = new CombatScaling();
+
+    // Biome weights
+    config.biome_weights.put("minecraft:plains", 1.0);
+    config.biome_weights.put("minecraft:forest", 1.2);
+    config.biome_weights.put("minecraft:dark_forest", 1.8);
+    config.biome_weights.put("minecraft:swamp", 1.5);
+    config.biome_weights.put("minecraft:taiga", 1.1);
+    config.biome_weights.put("minecraft:jungle", 1.3);
+    config.biome_weights.put("minecraft:desert", 0.7);
+    config.biome_weights.put("minecraft:savanna", 0.8);
+    config.biome_weights.put("minecraft:badlands", 0.9);
+    config.biome_weights.put("minecraft:mushroom_fields", 0.3);
+    config.biome_weights.put("minecraft:the_nether", 0.0);
+    config.biome_weights.put("minecraft:the_end", 0.0);
+    config.biome_weights.put("minecraft:deep_dark", 2.5);
+    config.biome_weights.put("minecraft:dripstone_caves", 1.6);
+    config.biome_weights.put("minecraft:lush_caves", 1.4);
+
+    // Variant multipliers
+    config.variant_multipliers.put("classic", new VariantMultipliers(1.0, 1.0, 1.0));
+    config.variant_multipliers.put("corrupted", new VariantMultipliers(1.5, 1.4, 2.0));
+    config.variant_multipliers.put("ender", new VariantMultipliers(2.0, 1.8, 3.0));
+    config.variant_multipliers.put("christmas", new VariantMultipliers(1.2, 1.1, 1.5));
+
+    // Spawn settings
+    config.spawn_settings = new SpawnSettings();
+
+    // Behavior
+    config.behavior = new Behavior();
+
+    // Loot settings
+    config.loot_settings = new LootSettings();
+
+    // Debug
+    config.debug = new Debug();
+
+    return config;
+  }
+
+  /**
+   * Validates configuration values for sanity, logging every problem found.
+   * Configs read from the file are already validated by
+   * {@link ConfigCompiler}; this is for configs built in code.
+   */
+  public boolean validate() {
+    MimicConfigValidationEvent event = new MimicConfigValidationEvent();
+    event.begin();
+    List<String> errors = ConfigCompiler.check(this);
+    for (String error : errors) {
+      LOGGER.warn("Invalid config: {}", error);
+    }
+    boolean valid = errors.isEmpty();
+    event.end();
+    if (event.shouldCommit()) {
+      event.valid = valid;
+      event.commit();
+    }
+    return valid;
+  }
+
+  /**
+   * Gets biome spawn weight with fallback.
+   */
+  public double getBiomeWeight(String biomeId) {
+    return biome_weights.getOrDefault(biomeId, 1.0);
+  }
+
+  /**
+   * Gets variant multipliers with fallback to classic.
+   */
+  public VariantMultipliers getVariantMultipliers(String variantId) {
+    return getVariantMultipliers(variantId, new VariantMultipliers(1.0, 1.0, 1.0));
+  }
+
+  /**
+   * Gets variant multipliers, or a fallback if the config has none for the
+   * variant.
+   */
+  public VariantMultipliers getVariantMultipliers(String variantId, VariantMultipliers fallback) {
+    return variant_multipliers.getOrDefault(variantId, fallback);
+  }
+
+  /**
+   * Checks if current date is a Christmas date.
+   */
+  public boolean isChristmasDate() {
+    String currentDate = LocalDate.now().format(DATE_FORMATTER);
+    return christmas_dates.contains(currentDate);
+  }
+
+  /**
+   * Gets scaled health based on biome difficulty.
+   */
+  public double getScaledHealth(String biomeId, String variantId) {
+    return getScaledHealth(biomeId, getVariantMultipliers(variantId));
+  }
+
+  /**
+   * Gets scaled health based on biome difficulty, for given variant
+   * multipliers.
+   */
+  public double getScaledHealth(String biomeId, VariantMultipliers multipliers) {
+    double baseHealth = combat_scaling.health_base;
+    double biomeWeight = getBiomeWeight(biomeId);
+    double difficultyBonus = combat_scaling.health_per_difficulty * (biomeWeight - 1.0);
+    double variantMultiplier = multipliers.health;
+
+    return (baseHealth + difficultyBonus) * variantMultiplier;
+  }
+
+  /**
+   * Gets scaled damage based on biome difficulty.
+   */
+  public double getScaledDamage(String biomeId, String variantId) {
+    return getScaledDamage(biomeId, getVariantMultipliers(variantId));
+  }
+
+  /**
+   * Gets scaled damage based on biome difficulty, for given variant
+   * multipliers.
+   */
+  public double getScaledDamage(String biomeId, VariantMultipliers multipliers) {
+    double baseDamage = combat_scaling.damage_base;
+    double biomeWeight = getBiomeWeight(biomeId);
+    double difficultyBonus = combat_scaling.damage_per_difficulty * (biomeWeight - 1.0);
+    double variantMultiplier = multipliers.damage;
+
+    return (baseDamage + difficultyBonus) * variantMultiplier;
+  }
+
+  /**
+   * Gets scaled experience based on variant.
+   */
+  public int getScaledExperience(String variantId) {
+    return getScaledExperience(getVariantMultipliers(variantId));
+  }
+
+  /**
+   * Gets scaled experience for given variant multipliers.
+   */
+  public int getScaledExperience(VariantMultipliers multipliers) {
+    double baseExp = combat_scaling.experience_base;
+    double variantMultiplier = multipliers.experience;
+
+    return (int) Math.round(baseExp * variantMultiplier);
+  }
+
+  /**
+   * Logs current configuration for debugging.
+   */
+  public void logConfiguration() {
+    if (debug.enable_spawn_logging) {
+      LOGGER.info("=== Mimic Mod Configuration ===");
+      LOGGER.info("Spawn Rates: Classic={}, Corrupted={}, Ender={}, Christmas={}",
+          spawn_rates.classic, spawn_rates.corrupted, spawn_rates.ender, spawn_rates.christmas);
+      LOGGER.info("Base Stats: Health={}, Damage={}, Experience={}",
+          combat_scaling.health_base, combat_scaling.damage_base, combat_scaling.experience_base);
+      LOGGER.info("Christmas Dates: {}", christmas_dates);
+      LOGGER.info("AI Tick Stride: {}", behavior.ai_tick_stride);
+      LOGGER.info("Is Christmas: {}", isChristmasDate());
+      LOGGER.info("===============================");
+    }
+  }
+}
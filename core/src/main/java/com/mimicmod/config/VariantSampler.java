@@ -0,0 +1,209 @@
+package com.mimicmod.config;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compiled variant sampler for the spawn rates of a {@link MimicConfig}.
+ *
+ * <p>
+ * Rates are compiled into two Vose alias tables, one for ordinary days and one
+ * for the days listed in {@code christmas_dates} (half of all spawns go to the
+ * {@link VariantSpec#TRAIT_HOLIDAY} variants, the other half follow the normal
+ * rates). A sample costs one
+ * {@code nextDouble()} and two array reads, whatever the number of variants.
+ *
+ * <p>
+ * {@code christmas_dates} is parsed once into a month-day calendar. Whether
+ * today is a holiday is looked up once per real day, in the system time zone,
+ * and cached with the time it expires; each sample only compares the clock
+ * against it. Instances are immutable apart from that cache, which is
+ * published through a volatile field, so a sampler can be shared by any
+ * number of threads as long as each passes its own random source (for example
+ * {@link java.util.concurrent.ThreadLocalRandom#current()}).
+ */
+public final class VariantSampler {
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+  private static final double HOLIDAY_SHARE = 0.5;
+
+  private final AliasTable regular;
+  private final AliasTable holiday;
+  // Indexed by month * 32 + day of month
+  private final boolean[] calendar;
+  private final ZoneId zone;
+  private volatile Day day = new Day(false, Long.MIN_VALUE);
+
+  private VariantSampler(AliasTable regular, AliasTable holiday, boolean[] calendar, ZoneId zone) {
+    this.regular = regular;
+    this.holiday = holiday;
+    this.calendar = calendar;
+    this.zone = zone;
+  }
+
+  /**
+   * Compiles a sampler from an already validated configuration.
+   *
+   * @param config   Source configuration
+   * @param variants Variant specs, indexed by dense variant id
+   * @return Sampler returning dense variant ids
+   */
+  public static VariantSampler compile(MimicConfig config, VariantSpec[] variants) {
+    double[] rates = new double[variants.length];
+    double holidayTotal = 0.0;
+    int holidayCount = 0;
+    for (int i = 0; i < variants.length; i++) {
+      rates[i] = Math.max(0.0, config.spawn_rates.getRate(variants[i].id(), variants[i].spawnRate()));
+      if (variants[i].hasTrait(VariantSpec.TRAIT_HOLIDAY)) {
+        holidayTotal += rates[i];
+        holidayCount++;
+      }
+    }
+
+    AliasTable regular = AliasTable.build(rates);
+    AliasTable holiday = regular;
+    if (holidayCount > 0) {
+      // Holiday share is split by rate, or evenly if all holiday rates are 0
+      double total = sum(rates);
+      double[] holidayRates = new double[rates.length];
+      for (int i = 0; i < rates.length; i++) {
+        holidayRates[i] = total > 0.0 ? rates[i] / total * (1.0 - HOLIDAY_SHARE) : 0.0;
+        if (variants[i].hasTrait(VariantSpec.TRAIT_HOLIDAY)) {
+          holidayRates[i] += holidayTotal > 0.0 ? HOLIDAY_SHARE * rates[i] / holidayTotal
+              : HOLIDAY_SHARE / holidayCount;
+        }
+      }
+      holiday = AliasTable.build(holidayRates);
+    }
+
+    return new VariantSampler(regular, holiday, calendar(config.christmas_dates), ZoneId.systemDefault());
+  }
+
+  private static boolean[] calendar(List<String> dates) {
+    boolean[] calendar = new boolean[13 * 32];
+    for (String date : dates) {
+      try {
+        MonthDay monthDay = MonthDay.parse(date, DATE_FORMATTER);
+        calendar[monthDay.getMonthValue() * 32 + monthDay.getDayOfMonth()] = true;
+      } catch (DateTimeParseException | NullPointerException e) {
+        // Never matches, same as an unparseable entry in the string list
+      }
+    }
+    return calendar;
+  }
+
+  private static double sum(double[] values) {
+    double total = 0.0;
+    for (double value : values) {
+      total += value;
+    }
+    return total;
+  }
+
+  /**
+   * Picks a variant.
+   *
+   * @param random Random source, not shared between threads
+   * @return Index into the variant ids the sampler was compiled with
+   */
+  public int sample(RandomGenerator random) {
+    return (isHoliday() ? holiday : regular).sample(random);
+  }
+
+  /**
+   * Checks if today is one of the configured Christmas dates.
+   */
+  public boolean isHoliday() {
+    Day current = day;
+    long now = System.currentTimeMillis();
+    if (now >= current.expiresAt) {
+      current = today(now);
+      day = current;
+    }
+    return current.holiday;
+  }
+
+  private Day today(long now) {
+    LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+    long midnight = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    return new Day(calendar[date.getMonthValue() * 32 + date.getDayOfMonth()], midnight);
+  }
+
+  /**
+   * Holiday state of one day, valid until {@code expiresAt} (epoch millis).
+   */
+  private record Day(boolean holiday, long expiresAt) {
+  }
+
+  /**
+   * Walker alias table built with Vose's method.
+   */
+  private static final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+      this.probability = probability;
+      this.alias = alias;
+    }
+
+    static AliasTable build(double[] weights) {
+      int n = weights.length;
+      double[] probability = new double[n];
+      int[] alias = new int[n];
+      double total = sum(weights);
+      if (total <= 0.0) {
+        // Nothing to pick from: always the first column
+        probability[0] = 1.0;
+        return new AliasTable(probability, alias);
+      }
+
+      double[] scaled = new double[n];
+      int[] small = new int[n];
+      int[] large = new int[n];
+      int smallCount = 0;
+      int largeCount = 0;
+      for (int i = 0; i < n; i++) {
+        scaled[i] = weights[i] * n / total;
+        if (scaled[i] < 1.0) {
+          small[smallCount++] = i;
+        } else {
+          large[largeCount++] = i;
+        }
+      }
+
+      while (smallCount > 0 && largeCount > 0) {
+        int less = small[--smallCount];
+        int more = large[--largeCount];
+        probability[less] = scaled[less];
+        alias[less] = more;
+        scaled[more] = scaled[more] + scaled[less] - 1.0;
+        if (scaled[more] < 1.0) {
+          small[smallCount++] = more;
+        } else {
+          large[largeCount++] = more;
+        }
+      }
+
+      // Leftovers are 1.0 up to rounding error
+      while (largeCount > 0) {
+        probability[large[--largeCount]] = 1.0;
+      }
+      while (smallCount > 0) {
+        probability[small[--smallCount]] = 1.0;
+      }
+      return new AliasTable(probability, alias);
+    }
+
+    int sample(RandomGenerator random) {
+      double roll = random.nextDouble() * probability.length;
+      int column = Math.min((int) roll, probability.length - 1);
+      return roll - column < probability[column] ? column : alias[column];
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.mimicmod.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Balance-relevant description of one mimic variant, as defined by its data
+ * pack entry.
+ *
+ * <p>
+ * The values are defaults: spawn rates, multipliers and rare book chances
+ * present in {@link MimicConfig} for the same id take precedence when a
+ * {@link BalanceSnapshot} is compiled. Traits are a bitmask of the
+ * {@code TRAIT_*} flags.
+ *
+ * @param id                   Variant id, as used in the config and NBT
+ * @param traits               Bitwise OR of trait flags
+ * @param spawnRate            Relative spawn rate
+ * @param healthMultiplier     Health multiplier
+ * @param damageMultiplier     Damage multiplier
+ * @param experienceMultiplier Experience multiplier
+ * @param rareBookChance       Chance to drop the variant's rare book
+ */
+public record VariantSpec(String id, int traits, double spawnRate, double healthMultiplier,
+    double damageMultiplier, double experienceMultiplier, double rareBookChance) {
+
+  /**
+   * Immune to fire and lava.
+   */
+  public static final int TRAIT_FIRE_IMMUNE = 1;
+
+  /**
+   * Takes half of all spawns on the configured {@code christmas_dates}.
+   */
+  public static final int TRAIT_HOLIDAY = 1 << 1;
+
+  private static final String[] TRAIT_NAMES = { "fire_immune", "holiday" };
+
+  /**
+   * Specs of the variants shipped with the mod, matching its data pack. Used
+   * until the variant registry has been loaded.
+   */
+  public static final List<VariantSpec> BUILTIN = List.of(
+      new VariantSpec("classic", 0, 0.70, 1.0, 1.0, 1.0, 0.15),
+      new VariantSpec("corrupted", 0, 0.20, 1.5, 1.4, 2.0, 0.25),
+      new VariantSpec("ender", TRAIT_FIRE_IMMUNE, 0.08, 2.0, 1.8, 3.0, 0.30),
+      new VariantSpec("christmas", TRAIT_HOLIDAY, 0.02, 1.2, 1.1, 1.5, 0.50));
+
+  /**
+   * Checks if this variant has a trait.
+   */
+  public boolean hasTrait(int trait) {
+    return (traits & trait) != 0;
+  }
+
+  /**
+   * Converts trait names to a bitmask.
+   *
+   * @param names Trait names, e.g. {@code fire_immune}
+   * @return Bitmask of the traits
+   * @throws IllegalArgumentException If a name is unknown
+   */
+  public static int traitMask(List<String> names) {
+    int mask = 0;
+    for (String name : names) {
+      int bit = traitBit(name);
+      if (bit == 0) {
+        throw new IllegalArgumentException("Unknown mimic variant trait: " + name);
+      }
+      mask |= bit;
+    }
+    return mask;
+  }
+
+  /**
+   * Converts a trait bitmask back to trait names.
+   */
+  public static List<String> traitNames(int mask) {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < TRAIT_NAMES.length; i++) {
+      if ((mask & 1 << i) != 0) {
+        names.add(TRAIT_NAMES[i]);
+      }
+    }
+    return names;
+  }
+
+  private static int traitBit(String name) {
+    for (int i = 0; i < TRAIT_NAMES.length; i++) {
+      if (TRAIT_NAMES[i].equals(name)) {
+        return 1 << i;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,28 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The config file was loaded at startup or hot-reloaded. The event duration
+ * covers reading, parsing, validation and publishing.
+ */
+@Name("com.mimicmod.ConfigLoad")
+@Label("Mimic Config Load")
+@Category({ "Mimic Mod", "Config" })
+@Enabled(false)
+@StackTrace(false)
+public class MimicConfigLoadEvent extends jdk.jfr.Event {
+
+    @Label("Reload")
+    public boolean reload;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Config Version")
+    public int configVersion;
+}
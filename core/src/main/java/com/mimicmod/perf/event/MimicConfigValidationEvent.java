@@ -0,0 +1,21 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A config was validated.
+ */
+@Name("com.mimicmod.ConfigValidation")
+@Label("Mimic Config Validation")
+@Category({ "Mimic Mod", "Config" })
+@Enabled(false)
+@StackTrace(false)
+public class MimicConfigValidationEvent extends jdk.jfr.Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -3,8 +3,10 @@ package com.mimicmod;
 import com.mimicmod.entity.client.MimicEntityModel;
 import com.mimicmod.entity.client.MimicEntityRenderer;
 import com.mimicmod.registry.ModEntities;
+import com.mimicmod.registry.ModVariants;
 
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityModelLayerRegistry;
 import net.minecraft.client.render.entity.EntityRendererFactories;
 
@@ -27,6 +29,10 @@ public class MimicModClient implements ClientModInitializer {
 			MimicMod.LOGGER.error("Error during entity model or renderer registration", e);
 		}
 
+		// Use the server's variants, synced during configuration
+		ClientPlayConnectionEvents.JOIN.register((handler, sender, client) ->
+				ModVariants.publish(handler.getRegistryManager()));
+
 		long duration = System.currentTimeMillis() - START_TIME;
 		MimicMod.LOGGER.info("Mimic Mod client initialized successfully in {}ms", duration);
 	}
@@ -1,6 +1,7 @@
 package com.mimicmod.entity.client;
 
 import com.mimicmod.MimicMod;
+import com.mimicmod.entity.MimicEntity;
 import net.minecraft.client.model.*;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.entity.model.EntityModel;
@@ -131,7 +132,9 @@ public class MimicEntityModel extends EntityModel<MimicRenderState> {
                 this.base.pitch = 0.0F;
 
                 if (state.revealed) {
-                        if (state.attacking) {
+                        if (state.animationPhase == MimicEntity.ANIMATION_OPENING) {
+                                animateOpening(state);
+                        } else if (state.attacking) {
                                 animateAttack(state);
                         } else {
                                 animateReveledIdle(state);
@@ -146,6 +149,15 @@ public class MimicEntityModel extends EntityModel<MimicRenderState> {
                 }
         }
 
+        /**
+         * Animates the reveal.
+         * Lid springs fully open with a small hop.
+         */
+        private void animateOpening(MimicRenderState state) {
+                this.lid.pitch = -LID_OPEN_ANGLE;
+                this.root.originY = ATTACK_BOB_HEIGHT;
+        }
+
         /**
          * Animates rapid chomping attack.
          * Lid snaps open and closed rapidly with aggressive bobbing.
@@ -1,5 +1,8 @@
 package com.mimicmod.entity.client;
 
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.entity.MimicVariant;
+
 import net.minecraft.client.render.entity.state.LivingEntityRenderState;
 
 /**
@@ -14,9 +17,8 @@ public class MimicRenderState extends LivingEntityRenderState {
 
   /**
    * Current variant of the mimic.
-   * Options: classic, corrupted, ender, christmas
    */
-  public String variant = "classic";
+  public MimicVariant variant = MimicVariant.fallback();
 
   /**
    * Whether the mimic is in its true form or disguised as a chest.
@@ -28,6 +30,11 @@ public class MimicRenderState extends LivingEntityRenderState {
    */
   public boolean attacking = false;
 
+  /**
+   * Lid animation phase, one of {@code MimicEntity.ANIMATION_*}.
+   */
+  public int animationPhase = MimicEntity.ANIMATION_CLOSED;
+
   /**
    * Movement speed for jump animation calculations.
    * Inherited from LivingEntityRenderState but explicitly tracked.
@@ -0,0 +1,213 @@
+package com.mimicmod.gametest;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.entity.MimicVariant;
+import com.mimicmod.registry.ModCommands;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.TestContext;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Heightmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Tick cost scenarios: 500, 2,000 and 5,000 mimics of a mixed, an all
+ * disguised and an all revealed population.
+ *
+ * <p>
+ * Each scenario spawns its mimics on a grid around the test through
+ * {@link ModCommands#spawnDebugMimic}, the path of {@code /mimic spawnmany},
+ * with the chunks they cover force-loaded. A headless server has no players,
+ * and disguised mimics with no player in aggro range are dormant and skip
+ * their AI, so creative mock players are placed over the whole grid: they keep
+ * every mimic awake but are never targeted, so the budgets cover the AI of an
+ * idle population next to players. After a warmup the server tick time
+ * is recorded for a fixed number of ticks, and the test fails if the average
+ * or p99 exceeds the scenario's budget in {@link TickBudgets}. Every scenario
+ * has its own test environment, so scenarios run in separate batches and never
+ * share a tick.
+ */
+public class MimicTickBudgetTests {
+
+    private static final int WARMUP_TICKS = 40;
+    private static final int MEASURED_TICKS = 200;
+    private static final int MAX_TICKS = WARMUP_TICKS + MEASURED_TICKS + 20;
+
+    // Wider than a mimic (0.875) so no two are pushed into each other
+    private static final double SPACING = 1.5;
+
+    private enum Population {
+        MIXED,
+        DISGUISED,
+        REVEALED
+    }
+
+    // Created once by Fabric when it loads the test entrypoints
+    public MimicTickBudgetTests() {
+        TickTimer.register();
+    }
+
+    @GameTest(environment = "mimicmod-gametest:mixed_500", maxTicks = MAX_TICKS)
+    public void mixed500(TestContext context) {
+        runScenario(context, Population.MIXED, 500);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:mixed_2000", maxTicks = MAX_TICKS)
+    public void mixed2000(TestContext context) {
+        runScenario(context, Population.MIXED, 2000);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:mixed_5000", maxTicks = MAX_TICKS)
+    public void mixed5000(TestContext context) {
+        runScenario(context, Population.MIXED, 5000);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:disguised_500", maxTicks = MAX_TICKS)
+    public void disguised500(TestContext context) {
+        runScenario(context, Population.DISGUISED, 500);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:disguised_2000", maxTicks = MAX_TICKS)
+    public void disguised2000(TestContext context) {
+        runScenario(context, Population.DISGUISED, 2000);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:disguised_5000", maxTicks = MAX_TICKS)
+    public void disguised5000(TestContext context) {
+        runScenario(context, Population.DISGUISED, 5000);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:revealed_500", maxTicks = MAX_TICKS)
+    public void revealed500(TestContext context) {
+        runScenario(context, Population.REVEALED, 500);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:revealed_2000", maxTicks = MAX_TICKS)
+    public void revealed2000(TestContext context) {
+        runScenario(context, Population.REVEALED, 2000);
+    }
+
+    @GameTest(environment = "mimicmod-gametest:revealed_5000", maxTicks = MAX_TICKS)
+    public void revealed5000(TestContext context) {
+        runScenario(context, Population.REVEALED, 5000);
+    }
+
+    private static void runScenario(TestContext context, Population population, int count) {
+        String scenario = population.name().toLowerCase(Locale.ROOT) + "_" + count;
+        TickBudgets.Budget budget = TickBudgets.of(scenario);
+        ServerWorld world = context.getWorld();
+
+        int side = MathHelper.ceil(Math.sqrt(count));
+        BlockPos origin = context.getAbsolutePos(BlockPos.ORIGIN);
+        double minX = origin.getX() - side * SPACING / 2.0;
+        double minZ = origin.getZ() - side * SPACING / 2.0;
+        LongList chunks = forceChunks(world, minX, minZ, side * SPACING);
+        List<ServerPlayerEntity> players = placePlayers(context, world, minX, minZ, side * SPACING);
+
+        // Fixed seed so every run ticks the same population
+        SplittableRandom random = new SplittableRandom(count);
+        List<MimicEntity> mimics = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = minX + (i % side) * SPACING;
+            double z = minZ + (i / side) * SPACING;
+            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING, MathHelper.floor(x), MathHelper.floor(z));
+            MimicVariant variant = population == Population.MIXED
+                    ? BalanceUtils.getRandomVariant(random)
+                    : MimicVariant.fallback();
+            MimicEntity mimic = ModCommands.spawnDebugMimic(world, x, y, z, 0.0F, variant);
+            if (mimic == null) {
+                continue;
+            }
+            if (population == Population.REVEALED) {
+                mimic.setRevealed(true);
+            }
+            mimics.add(mimic);
+        }
+
+        TickTimer[] timer = new TickTimer[1];
+        context.runAtTick(WARMUP_TICKS, () -> timer[0] = TickTimer.start(MEASURED_TICKS));
+        context.runAtTick(WARMUP_TICKS + MEASURED_TICKS + 1, () -> {
+            TickTimer result = timer[0];
+            result.stop();
+            int alive = (int) mimics.stream().filter(Entity::isAlive).count();
+            mimics.forEach(Entity::discard);
+            players.forEach(world.getServer().getPlayerManager()::remove);
+            unforceChunks(world, chunks);
+
+            double average = result.averageMillis();
+            double p99 = result.percentileMillis(99);
+            MimicMod.LOGGER.info("[gametest] {}: {} mimics, average {} ms, p99 {} ms (budget {} / {} ms)",
+                    scenario, alive, String.format(Locale.ROOT, "%.2f", average),
+                    String.format(Locale.ROOT, "%.2f", p99), budget.averageMillis(), budget.p99Millis());
+
+            context.assertTrue(mimics.size() == count && alive == count,
+                    Text.literal(scenario + ": only " + alive + " of " + count + " mimics alive"));
+            context.assertTrue(result.isDone(),
+                    Text.literal(scenario + ": recorded fewer than " + MEASURED_TICKS + " ticks"));
+            context.assertTrue(average <= budget.averageMillis(), Text.literal(String.format(Locale.ROOT,
+                    "%s: average tick %.2f ms exceeds budget %.2f ms", scenario, average, budget.averageMillis())));
+            context.assertTrue(p99 <= budget.p99Millis(), Text.literal(String.format(Locale.ROOT,
+                    "%s: p99 tick %.2f ms exceeds budget %.2f ms", scenario, p99, budget.p99Millis())));
+            context.complete();
+        });
+    }
+
+    /**
+     * Places creative players on a grid over the population, one per square
+     * of the aggro range, which puts every mimic within 0.71 of that range of
+     * a player. They join like real players, so the
+     * {@link com.mimicmod.world.PlayerProximityIndex} sees them.
+     */
+    private static List<ServerPlayerEntity> placePlayers(TestContext context, ServerWorld world,
+            double minX, double minZ, double size) {
+        double step = BalanceUtils.getAggroRange();
+        int perSide = MathHelper.ceil(size / step);
+        List<ServerPlayerEntity> players = new ArrayList<>(perSide * perSide);
+        for (int i = 0; i < perSide * perSide; i++) {
+            double x = minX + (i % perSide + 0.5) * step;
+            double z = minZ + (i / perSide + 0.5) * step;
+            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING, MathHelper.floor(x), MathHelper.floor(z));
+            ServerPlayerEntity player = context.createMockCreativeServerPlayerInWorld();
+            player.refreshPositionAndAngles(x, y, z, 0.0F, 0.0F);
+            players.add(player);
+        }
+        return players;
+    }
+
+    private static LongList forceChunks(ServerWorld world, double minX, double minZ, double size) {
+        LongList chunks = new LongArrayList();
+        int minChunkX = MathHelper.floor(minX) >> 4;
+        int minChunkZ = MathHelper.floor(minZ) >> 4;
+        int maxChunkX = MathHelper.floor(minX + size) >> 4;
+        int maxChunkZ = MathHelper.floor(minZ + size) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (world.setChunkForced(chunkX, chunkZ, true)) {
+                    chunks.add(ChunkPos.toLong(chunkX, chunkZ));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static void unforceChunks(ServerWorld world, LongList chunks) {
+        for (int i = 0; i < chunks.size(); i++) {
+            long chunk = chunks.getLong(i);
+            world.setChunkForced(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk), false);
+        }
+    }
+}
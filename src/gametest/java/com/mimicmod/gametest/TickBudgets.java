@@ -0,0 +1,73 @@
+package com.mimicmod.gametest;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checked-in tick budgets of the scenarios, read from
+ * {@code mimicmod-gametest/tick_budgets.json} on the test classpath.
+ *
+ * <p>
+ * Budgets are per scenario, keyed {@code <population>_<count>}, and give the
+ * highest accepted average and p99 tick time in milliseconds. Raise them only
+ * together with the change that justifies it.
+ */
+final class TickBudgets {
+
+    private static final String RESOURCE = "/mimicmod-gametest/tick_budgets.json";
+
+    private static final Map<String, Budget> BUDGETS = load();
+
+    /**
+     * Accepted tick times of one scenario.
+     *
+     * @param averageMillis Highest average tick time
+     * @param p99Millis     Highest 99th percentile tick time
+     */
+    record Budget(double averageMillis, double p99Millis) {
+    }
+
+    private TickBudgets() {
+    }
+
+    /**
+     * Gets the budget of a scenario.
+     *
+     * @throws IllegalStateException If the scenario has no budget
+     */
+    static Budget of(String scenario) {
+        Budget budget = BUDGETS.get(scenario);
+        if (budget == null) {
+            throw new IllegalStateException("No tick budget for scenario " + scenario + " in " + RESOURCE);
+        }
+        return budget;
+    }
+
+    private static Map<String, Budget> load() {
+        try (InputStream stream = TickBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing " + RESOURCE);
+            }
+            JsonObject root = JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            Map<String, Budget> budgets = new HashMap<>();
+            for (Map.Entry<String, JsonElement> entry : root.entrySet()) {
+                JsonObject budget = entry.getValue().getAsJsonObject();
+                budgets.put(entry.getKey(), new Budget(budget.get("average_ms").getAsDouble(),
+                        budget.get("p99_ms").getAsDouble()));
+            }
+            return budgets;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+        }
+    }
+}
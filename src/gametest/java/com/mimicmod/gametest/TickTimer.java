@@ -0,0 +1,112 @@
+package com.mimicmod.gametest;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+import java.util.Arrays;
+
+/**
+ * Records the wall time of a fixed number of consecutive server ticks, from
+ * the start to the end of {@code MinecraftServer.tick}.
+ *
+ * <p>
+ * Scenarios run in separate batches, so at most one timer is armed at a time.
+ * Timers are armed mid-tick, from a test callback; a tick is only recorded if
+ * it started after the timer was armed. All access happens on the server
+ * thread.
+ */
+final class TickTimer {
+
+    private static TickTimer active;
+    private static long tickStart;
+    // Timer armed when the current tick started
+    private static TickTimer timing;
+    private static boolean registered;
+
+    /**
+     * Hooks the timers into the server tick. Called from the test entrypoint
+     * before any server starts.
+     */
+    static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        ServerTickEvents.START_SERVER_TICK.register(server -> {
+            tickStart = System.nanoTime();
+            timing = active;
+        });
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (active != null && active == timing) {
+                active.record(System.nanoTime() - tickStart);
+            }
+        });
+    }
+
+    private final long[] samples;
+    private int count;
+
+    private TickTimer(int ticks) {
+        this.samples = new long[ticks];
+    }
+
+    /**
+     * Starts timing the next ticks, replacing any armed timer.
+     *
+     * @param ticks Number of ticks to record
+     */
+    static TickTimer start(int ticks) {
+        TickTimer timer = new TickTimer(ticks);
+        active = timer;
+        return timer;
+    }
+
+    private void record(long nanos) {
+        samples[count++] = nanos;
+        if (count == samples.length) {
+            active = null;
+        }
+    }
+
+    /**
+     * Checks whether all ticks have been recorded.
+     */
+    boolean isDone() {
+        return count == samples.length;
+    }
+
+    /**
+     * Stops recording early, e.g. when the test is cleaned up.
+     */
+    void stop() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * Gets the average of the recorded ticks in milliseconds.
+     */
+    double averageMillis() {
+        if (count == 0) {
+            return 0.0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return total / (count * 1.0E6);
+    }
+
+    /**
+     * Gets a percentile of the recorded ticks in milliseconds, nearest rank.
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)] / 1.0E6;
+    }
+}
@@ -0,0 +1,69 @@
+package com.mimicmod.entity;
+
+import com.mimicmod.config.BalanceSnapshot;
+import com.mimicmod.config.MimicConfig;
+
+import net.minecraft.world.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks stat scaling lookups and snapshot compilation.
+ * Lookups run on every mimic spawn and re-scale, compilation on every reload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BalanceUtilsBenchmark {
+
+    private static final String[] BIOME_IDS = {
+            "minecraft:plains", "minecraft:desert", "minecraft:dark_forest",
+            "minecraft:deep_dark", "minecraft:the_end", "minecraft:nether_wastes"
+    };
+
+    @Param({ "classic", "ender" })
+    public String variantId;
+
+    private MimicVariant variant;
+    private MimicConfig config;
+    private Difficulty difficulty;
+    private int biome;
+
+    @Setup
+    public void setup() {
+        config = MimicConfig.createDefaults();
+        BalanceUtils.setBiomeIds(BIOME_IDS);
+        BalanceUtils.publish(config);
+        variant = MimicVariant.fromId(variantId);
+        difficulty = Difficulty.HARD;
+        biome = 3;
+    }
+
+    @Benchmark
+    public double scaledHealth() {
+        return BalanceUtils.getScaledHealth(difficulty, biome, variant);
+    }
+
+    @Benchmark
+    public double scaledDamage() {
+        return BalanceUtils.getScaledDamage(difficulty, biome, variant);
+    }
+
+    @Benchmark
+    public int scaledExperience() {
+        return BalanceUtils.getScaledExperience(variant, 10);
+    }
+
+    @Benchmark
+    public BalanceSnapshot publish() {
+        return BalanceUtils.publish(config);
+    }
+}
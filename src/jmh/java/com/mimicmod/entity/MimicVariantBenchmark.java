@@ -0,0 +1,42 @@
+package com.mimicmod.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks variant resolution from string ids (NBT, commands) and from
+ * dense indices (synced entity state).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MimicVariantBenchmark {
+
+    @Param({ "classic", "christmas", "unknown" })
+    public String variantId;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        index = MimicVariant.fromId(variantId).getIndex();
+    }
+
+    @Benchmark
+    public MimicVariant fromId() {
+        return MimicVariant.fromId(variantId);
+    }
+
+    @Benchmark
+    public MimicVariant byIndex() {
+        return MimicVariant.byIndex(index);
+    }
+}
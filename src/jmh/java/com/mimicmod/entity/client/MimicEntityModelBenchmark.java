@@ -0,0 +1,56 @@
+package com.mimicmod.entity.client;
+
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.entity.MimicVariant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks model animation for each visual state, using a render state
+ * filled in by hand instead of a live entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MimicEntityModelBenchmark {
+
+    @Param({ "disguised", "opening", "idle", "attacking", "moving" })
+    public String pose;
+
+    private MimicEntityModel model;
+    private MimicRenderState state;
+
+    @Setup
+    public void setup() {
+        model = new MimicEntityModel(MimicEntityModel.getTexturedModelData().createModel());
+
+        state = new MimicRenderState();
+        state.variant = MimicVariant.fallback();
+        state.revealed = !"disguised".equals(pose);
+        state.animationPhase = switch (pose) {
+            case "disguised" -> MimicEntity.ANIMATION_CLOSED;
+            case "opening" -> MimicEntity.ANIMATION_OPENING;
+            default -> MimicEntity.ANIMATION_OPEN;
+        };
+        state.attacking = "attacking".equals(pose) || "moving".equals(pose);
+        state.movementSpeed = "moving".equals(pose) ? 0.5F : 0.0F;
+    }
+
+    @Benchmark
+    public MimicEntityModel setAngles() {
+        // Advance time so the trigonometry is not constant
+        state.age += 1.0F;
+        state.limbPose += 0.5F;
+        model.setAngles(state);
+        return model;
+    }
+}
@@ -1,8 +1,23 @@
 package com.mimicmod;
 
+import com.mimicmod.config.ConfigIo;
+import com.mimicmod.config.ConfigWatcher;
 import com.mimicmod.config.MimicConfig;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.perf.MimicMetrics;
+import com.mimicmod.perf.MimicTickProfiler;
 import com.mimicmod.registry.*;
+import com.mimicmod.world.BiomeIndex;
+import com.mimicmod.world.ChestMimicPlaceholders;
+import com.mimicmod.world.MimicDeathCollector;
+import com.mimicmod.world.MimicIndex;
+import com.mimicmod.world.MimicRescaler;
+import com.mimicmod.world.MimicSpawning;
+import com.mimicmod.world.PlayerProximityIndex;
+import com.mimicmod.world.SpawnEligibilityCache;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +30,10 @@ public class MimicMod implements ModInitializer {
 	public static final String MODID = "mimicmod";
 	public static final Logger LOGGER = LoggerFactory.getLogger(MODID);
 
-	public static MimicConfig CONFIG;
+	public static volatile MimicConfig CONFIG;
+
+	// Longest a stopping server waits for a pending config save
+	private static final long CONFIG_FLUSH_TIMEOUT_MILLIS = 2000;
 
 	@Override
 	public void onInitialize() {
@@ -26,14 +44,35 @@ public class MimicMod implements ModInitializer {
 		// Load configuration first
 		CONFIG = MimicConfig.load();
 		CONFIG.logConfiguration();
+		BalanceUtils.publish(CONFIG);
 
 		// Register mod content
+		ModVariants.register();
 		ModItems.register();
 		ModSounds.register();
 		ModEntities.register();
 		ModEntities.registerAttributes();
 		ModLootTables.register();
 		ModCommands.register();
+		BiomeIndex.register();
+		MimicIndex.register();
+		PlayerProximityIndex.register();
+		MimicRescaler.register();
+		MimicTickProfiler.register();
+		MimicMetrics.register();
+		SpawnEligibilityCache.register();
+		MimicSpawning.register();
+		ModFeatures.register();
+		ChestMimicPlaceholders.register();
+		MimicDeathCollector.register();
+
+		// Hot-reload config while a server is running; results of config I/O land between ticks
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> ConfigWatcher.start());
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			ConfigWatcher.stop();
+			ConfigIo.flush(CONFIG_FLUSH_TIMEOUT_MILLIS);
+		});
+		ServerTickEvents.END_SERVER_TICK.register(server -> ConfigIo.drainCompletions());
 
 		long duration = System.currentTimeMillis() - startTime;
 		LOGGER.info("Mimic Mod initialized successfully in {}ms", duration);
@@ -0,0 +1,175 @@
+package com.mimicmod.config;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.perf.MimicMetrics;
+import com.mimicmod.perf.event.MimicConfigLoadEvent;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches {@code config/mimicmod.json} and hot-reloads it off the server
+ * thread.
+ *
+ * <p>
+ * Reading, parsing and validation run on the {@link ConfigIo} thread. A valid
+ * config comes back through the completion queue and is published between
+ * ticks through {@link BalanceUtils#publish(MimicConfig)}; existing mimics are
+ * then re-scaled incrementally by {@link com.mimicmod.world.MimicRescaler}. An
+ * invalid or half-written file is ignored and the current values stay active.
+ */
+public final class ConfigWatcher {
+  // Editors often write a file in several steps; wait for them to settle
+  private static final long DEBOUNCE_MILLIS = 250;
+
+  private static WatchService watchService;
+  private static Thread watchThread;
+
+  private ConfigWatcher() {
+  }
+
+  /**
+   * Starts watching the config file. Does nothing if already running.
+   */
+  public static synchronized void start() {
+    if (watchThread != null) {
+      return;
+    }
+
+    Path directory = MimicConfig.getPath().toAbsolutePath().getParent();
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException e) {
+      MimicMod.LOGGER.error("Failed to watch config directory {}, hot reload disabled", directory, e);
+      return;
+    }
+
+    WatchService service = watchService;
+    watchThread = new Thread(() -> watch(service), "Mimic Config Watcher");
+    watchThread.setDaemon(true);
+    watchThread.start();
+    MimicMod.LOGGER.info("Watching {} for changes", MimicConfig.getPath());
+  }
+
+  /**
+   * Stops watching the config file.
+   */
+  public static synchronized void stop() {
+    if (watchThread == null) {
+      return;
+    }
+
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      MimicMod.LOGGER.warn("Failed to close config watch service", e);
+    }
+    watchThread.interrupt();
+    watchThread = null;
+    watchService = null;
+  }
+
+  /**
+   * Reloads the config file on the I/O thread and publishes it from the tick
+   * loop.
+   *
+   * @return Future completing on the tick loop with the compile result; the
+   *         config was published if it is valid
+   */
+  public static CompletableFuture<ConfigCompiler.Result> reloadAsync() {
+    CompletableFuture<ConfigCompiler.Result> published = new CompletableFuture<>();
+    MimicConfigLoadEvent event = new MimicConfigLoadEvent();
+    event.begin();
+    long startTime = System.nanoTime();
+    ConfigIo.deliver(ConfigIo.readAsync(), (result, error) -> {
+      if (error != null) {
+        MimicMod.LOGGER.error("Failed to reload configuration", error);
+        commitReload(event, "error", 0);
+        published.completeExceptionally(error);
+      } else {
+        publish(event, startTime, result);
+        published.complete(result);
+      }
+    });
+    return published;
+  }
+
+  private static void watch(WatchService service) {
+    Path fileName = MimicConfig.getPath().getFileName();
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        boolean changed = containsConfig(key, fileName);
+
+        // Debounce: keep draining events until the file stops changing
+        WatchKey next;
+        while ((next = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          changed |= containsConfig(next, fileName);
+        }
+
+        if (changed) {
+          MimicMod.LOGGER.info("Detected change to {}, reloading", MimicConfig.getPath());
+          reloadAsync();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Watcher stopped
+    }
+  }
+
+  private static boolean containsConfig(WatchKey key, Path fileName) {
+    boolean found = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (fileName.equals(event.context())) {
+        found = true;
+      }
+    }
+    key.reset();
+    return found;
+  }
+
+  /**
+   * Publishes a config read by {@link ConfigIo}, if it is valid.
+   * Runs on the tick loop only.
+   */
+  private static void publish(MimicConfigLoadEvent event, long startTime, ConfigCompiler.Result result) {
+    if (!result.isValid()) {
+      MimicMod.LOGGER.warn("Config reload rejected ({} errors), keeping current configuration",
+          result.errors().size());
+      commitReload(event, "rejected", 0);
+      return;
+    }
+
+    MimicConfig config = result.config();
+    BalanceSnapshot snapshot = BalanceUtils.publish(config);
+    MimicMod.CONFIG = config;
+    config.logConfiguration();
+
+    long duration = System.nanoTime() - startTime;
+    MimicMetrics.recordConfigReload(duration);
+    MimicMod.LOGGER.info("Configuration reloaded in {}ms (version {})",
+        TimeUnit.NANOSECONDS.toMillis(duration), snapshot.version());
+    commitReload(event, "published", snapshot.version());
+  }
+
+  private static void commitReload(MimicConfigLoadEvent event, String outcome, int version) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.reload = true;
+      event.outcome = outcome;
+      event.configVersion = version;
+      event.commit();
+    }
+  }
+}
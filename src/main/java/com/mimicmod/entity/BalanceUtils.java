@@ -1,108 +1,172 @@
 package com.mimicmod.entity;
 
 import com.mimicmod.MimicMod;
+import com.mimicmod.config.BalanceSnapshot;
 import com.mimicmod.config.MimicConfig;
+import com.mimicmod.config.VariantSpec;
+import com.mimicmod.perf.event.MimicLootRollEvent;
+import com.mimicmod.world.BiomeIndex;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.World;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Optimized utility class for calculating scaled entity stats.
  *
  * Key optimizations:
- * - Single config instance caching (eliminated 10+ null checks)
- * - Config validation happens once at startup
- * - Reusable static multiplier switch statements
+ * - Config is compiled into an immutable {@link BalanceSnapshot} on load/reload
+ * - Snapshot is published through a single volatile write (no locking)
+ * - Stat lookups are array reads (no hashing, switches or allocation)
+ * - Biomes are passed as interned int indices instead of id strings
+ * - Variants are sampled from precompiled alias tables
  * - Parameterized logging (lazy evaluation)
  */
 public class BalanceUtils {
-    private static volatile MimicConfig cachedConfig;
-    private static boolean configValidated = false;
+    private static volatile String[] biomeIds = new String[0];
+    private static volatile VariantSpec[] variants = specsOf(MimicVariant.all());
+    private static volatile BalanceSnapshot snapshot;
+
+    private static VariantSpec[] specsOf(List<MimicVariant> published) {
+        VariantSpec[] specs = new VariantSpec[published.size()];
+        for (MimicVariant variant : published) {
+            specs[variant.getIndex()] = variant.getSpec();
+        }
+        return specs;
+    }
 
     /**
-     * Gets cached config with lazy initialization.
-     * Called once per method invocation instead of 10+ times.
+     * Compiles and atomically publishes a new balance snapshot.
+     * Call after the config has been loaded and validated.
+     *
+     * @param config Validated configuration
+     * @return The published snapshot
      */
-    private static MimicConfig getConfig() {
-        // Double-checked locking pattern for thread safety
-        if (cachedConfig == null) {
-            synchronized (BalanceUtils.class) {
-                if (cachedConfig == null) {
-                    MimicConfig config = MimicMod.CONFIG;
-                    if (config == null) {
-                        throw new IllegalStateException("Config must be initialized before game start");
-                    }
-                    if (!configValidated) {
-                        if (!config.validate()) {
-                            throw new IllegalStateException("Invalid configuration detected");
-                        }
-                        configValidated = true;
-                    }
-                    cachedConfig = config;
-                }
-            }
+    public static synchronized BalanceSnapshot publish(MimicConfig config) {
+        Objects.requireNonNull(config, "Config cannot be null");
+        BalanceSnapshot compiled = BalanceSnapshot.compile(config, biomeIds, variants);
+        snapshot = compiled;
+        return compiled;
+    }
+
+    /**
+     * Sets the interned biome ids and recompiles the current snapshot against
+     * them. Called by {@link com.mimicmod.world.BiomeIndex} when biomes are
+     * (re)interned.
+     *
+     * @param ids Biome identifiers, indexed by interned biome index
+     */
+    public static synchronized void setBiomeIds(String[] ids) {
+        biomeIds = ids;
+        BalanceSnapshot current = snapshot;
+        if (current != null) {
+            publish(current.config());
         }
-        return cachedConfig;
     }
 
     /**
-     * Resets config cache (call when config is reloaded).
+     * Sets the variants and recompiles the current snapshot against them.
+     * Called by {@link com.mimicmod.registry.ModVariants} after publishing a
+     * loaded variant registry.
+     *
+     * @param published Variants, ordered by index
      */
-    public static void resetConfigCache() {
-        cachedConfig = null;
-        configValidated = false;
+    public static synchronized void setVariants(List<MimicVariant> published) {
+        variants = specsOf(published);
+        BalanceSnapshot current = snapshot;
+        if (current != null) {
+            publish(current.config());
+        }
+    }
+
+    /**
+     * Gets the currently published balance snapshot.
+     * Read once per operation so all values come from the same config.
+     */
+    public static BalanceSnapshot snapshot() {
+        BalanceSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Config must be initialized before game start");
+        }
+        return current;
+    }
+
+    private static MimicConfig getConfig() {
+        return snapshot().config();
     }
 
     /**
      * Calculates scaled health for a mimic entity.
      *
      * @param world   World instance for difficulty
-     * @param biomeId Biome identifier
+     * @param biome   Interned biome index
      * @param variant Variant identifier
      * @return Scaled health value (minimum 1.0)
      */
-    public static double getScaledHealth(World world, String biomeId, MimicVariant variant) {
+    public static double getScaledHealth(World world, int biome, MimicVariant variant) {
         Objects.requireNonNull(world, "World cannot be null");
-        Objects.requireNonNull(biomeId, "Biome ID cannot be null");
+        return getScaledHealth(world.getDifficulty(), biome, variant);
+    }
+
+    /**
+     * Calculates scaled health for a difficulty.
+     *
+     * @param difficulty World difficulty
+     * @param biome      Interned biome index
+     * @param variant    Variant identifier
+     * @return Scaled health value (minimum 1.0)
+     */
+    public static double getScaledHealth(Difficulty difficulty, int biome, MimicVariant variant) {
         Objects.requireNonNull(variant, "Variant cannot be null");
 
-        MimicConfig config = getConfig();
-        double result = config.getScaledHealth(biomeId, variant.getId());
-        result *= getDifficultyHealthMultiplier(world.getDifficulty());
+        BalanceSnapshot balance = snapshot();
+        double result = balance.health(biome, variant.getIndex(), difficulty.getId());
 
-        if (config.debug.enable_combat_logging) {
+        if (balance.config().debug.enable_combat_logging) {
             MimicMod.LOGGER.debug(
                     "Scaled health for {} in {}: result={}",
-                    variant, biomeId, result);
+                    variant, BiomeIndex.idOf(biome), result);
         }
 
-        return Math.max(1.0, result);
+        return result;
     }
 
     /**
      * Calculates scaled damage for a mimic entity.
      *
      * @param world   World instance for difficulty
-     * @param biomeId Biome identifier
+     * @param biome   Interned biome index
      * @param variant Variant identifier
      * @return Scaled damage value (minimum 0.5)
      */
-    public static double getScaledDamage(World world, String biomeId, MimicVariant variant) {
+    public static double getScaledDamage(World world, int biome, MimicVariant variant) {
         Objects.requireNonNull(world, "World cannot be null");
-        Objects.requireNonNull(biomeId, "Biome ID cannot be null");
+        return getScaledDamage(world.getDifficulty(), biome, variant);
+    }
+
+    /**
+     * Calculates scaled damage for a difficulty.
+     *
+     * @param difficulty World difficulty
+     * @param biome      Interned biome index
+     * @param variant    Variant identifier
+     * @return Scaled damage value (minimum 0.5)
+     */
+    public static double getScaledDamage(Difficulty difficulty, int biome, MimicVariant variant) {
         Objects.requireNonNull(variant, "Variant cannot be null");
 
-        MimicConfig config = getConfig();
-        double result = config.getScaledDamage(biomeId, variant.getId());
-        result *= getDifficultyDamageMultiplier(world.getDifficulty());
+        BalanceSnapshot balance = snapshot();
+        double result = balance.damage(biome, variant.getIndex(), difficulty.getId());
 
-        if (config.debug.enable_combat_logging) {
+        if (balance.config().debug.enable_combat_logging) {
             MimicMod.LOGGER.debug(
                     "Scaled damage for {} in {}: result={}",
-                    variant, biomeId, result);
+                    variant, BiomeIndex.idOf(biome), result);
         }
 
-        return Math.max(0.5, result);
+        return result;
     }
 
     /**
@@ -115,42 +179,36 @@ public class BalanceUtils {
     public static int getScaledExperience(MimicVariant variant, int baseXp) {
         Objects.requireNonNull(variant, "Variant cannot be null");
 
-        MimicConfig config = getConfig();
-        int result = config.getScaledExperience(variant.getId());
+        BalanceSnapshot balance = snapshot();
+        int result = balance.experience(variant.getIndex());
 
-        if (config.debug.enable_combat_logging) {
+        if (balance.config().debug.enable_combat_logging) {
             MimicMod.LOGGER.debug(
                     "Scaled experience for {}: result={}",
                     variant, result);
         }
 
-        return Math.max(1, result);
+        return result;
     }
 
     /**
-     * Gets difficulty multiplier for health.
-     * Inlined for performance.
+     * Picks a variant using the configured spawn rates.
+     * Safe to call from any thread, including worldgen threads.
+     *
+     * @return Selected variant
      */
-    private static double getDifficultyHealthMultiplier(Difficulty difficulty) {
-        return switch (difficulty) {
-            case PEACEFUL -> 0.5;
-            case EASY -> 0.75;
-            case NORMAL -> 1.0;
-            case HARD -> 1.5;
-        };
+    public static MimicVariant getRandomVariant() {
+        return getRandomVariant(ThreadLocalRandom.current());
     }
 
     /**
-     * Gets difficulty multiplier for damage.
-     * Inlined for performance.
+     * Picks a variant using the configured spawn rates.
+     *
+     * @param random Random source, not shared between threads
+     * @return Selected variant
      */
-    private static double getDifficultyDamageMultiplier(Difficulty difficulty) {
-        return switch (difficulty) {
-            case PEACEFUL -> 0.0;
-            case EASY -> 0.5;
-            case NORMAL -> 1.0;
-            case HARD -> 1.5;
-        };
+    public static MimicVariant getRandomVariant(RandomGenerator random) {
+        return MimicVariant.byIndex(snapshot().variantSampler().sample(random));
     }
 
     /**
@@ -168,45 +226,62 @@ public class BalanceUtils {
     }
 
     /**
-     * Determines if a rare book should drop based on variant.
+     * Gets the number of teeth dropped when the tooth roll hits.
      *
-     * @param variant Variant identifier
-     * @param random  Random value between 0 and 1
-     * @return True if rare book should drop
+     * @param variant      Variant of the dying mimic
+     * @param lootingLevel Looting enchantment level of the killer
+     * @return Loot multiplier rounded down, at least 1
      */
-    public static boolean shouldDropRareBook(MimicVariant variant, double random) {
-        MimicConfig config = getConfig();
-        double chance = config.loot_settings.rare_book_drop_chance.getChance(variant.getId());
-        return random < chance;
+    public static int getToothCount(MimicVariant variant, int lootingLevel) {
+        return Math.max(1, (int) getLootMultiplier(variant, lootingLevel));
     }
 
     /**
-     * Determines if a mimic tooth should drop.
+     * Rolls the config-driven bonus drops (tooth and rare book) of a variant.
+     * Both are decided by one precompiled roll.
      *
-     * @param random Random value between 0 and 1
-     * @return True if tooth should drop
+     * @param variant Variant of the dying mimic
+     * @param random  Random value between 0 and 1
+     * @return Bitwise OR of {@link BalanceSnapshot#BONUS_TOOTH} and
+     *         {@link BalanceSnapshot#BONUS_RARE_BOOK}
      */
-    public static boolean shouldDropTooth(double random) {
-        MimicConfig config = getConfig();
-        if (config.loot_settings.always_drop_tooth) {
-            return true;
+    public static int rollBonusLoot(MimicVariant variant, double random) {
+        BalanceSnapshot balance = snapshot();
+        int index = variant.getIndex();
+        if (index >= balance.variantCount()) {
+            return 0;
+        }
+        int bonus = balance.bonusLoot(index, random);
+        recordLootRoll("tooth", null, balance.toothChance(), (bonus & BalanceSnapshot.BONUS_TOOTH) != 0);
+        recordLootRoll("rare_book", variant, balance.rareBookChance(index),
+                (bonus & BalanceSnapshot.BONUS_RARE_BOOK) != 0);
+        return bonus;
+    }
+
+    private static void recordLootRoll(String loot, MimicVariant variant, double chance, boolean dropped) {
+        MimicLootRollEvent event = new MimicLootRollEvent();
+        if (event.shouldCommit()) {
+            event.loot = loot;
+            event.variant = variant != null ? variant.getId() : null;
+            event.chance = chance;
+            event.dropped = dropped;
+            event.commit();
         }
-        return random < config.loot_settings.tooth_drop_chance;
     }
 
     /**
      * Gets spawn weight for a biome.
      * Reduced logging overhead by using short-circuit evaluation.
      *
-     * @param biomeId Biome identifier
+     * @param biome Interned biome index
      * @return Spawn weight (0 = don't spawn)
      */
-    public static double getBiomeSpawnWeight(String biomeId) {
-        MimicConfig config = getConfig();
-        double weight = config.getBiomeWeight(biomeId);
+    public static double getBiomeSpawnWeight(int biome) {
+        BalanceSnapshot balance = snapshot();
+        double weight = balance.biomeWeight(biome);
 
-        if (config.debug.enable_spawn_logging) {
-            MimicMod.LOGGER.debug("Biome spawn weight for {}: {}", biomeId, weight);
+        if (balance.config().debug.enable_spawn_logging) {
+            MimicMod.LOGGER.debug("Biome spawn weight for {}: {}", BiomeIndex.idOf(biome), weight);
         }
 
         return weight;
@@ -235,6 +310,27 @@ public class BalanceUtils {
         return config.behavior.idle_sound_interval_ticks;
     }
 
+    /**
+     * Gets the range in which mimics notice players.
+     * Also used as the wake-up range for dormant mimics.
+     *
+     * @return Aggro range in blocks
+     */
+    public static double getAggroRange() {
+        MimicConfig config = getConfig();
+        return config.behavior.aggro_range;
+    }
+
+    /**
+     * Gets the stride used to spread non-critical goal evaluation.
+     *
+     * @return Number of vanilla goal evaluations per scheduled evaluation
+     */
+    public static int getAiTickStride() {
+        MimicConfig config = getConfig();
+        return config.behavior.ai_tick_stride;
+    }
+
     /**
      * Checks if the mimic should reveal when attacking.
      *
@@ -250,13 +346,13 @@ public class BalanceUtils {
      * Useful for testing and debugging.
      *
      * @param world   World instance
-     * @param biomeId Biome to test
+     * @param biome   Interned biome index to test
      * @param variant Variant to test
      */
-    public static void validateScaling(World world, String biomeId, MimicVariant variant) {
-        MimicMod.LOGGER.info("=== Validating Scaling for {} in {} ===", variant, biomeId);
-        double health = getScaledHealth(world, biomeId, variant);
-        double damage = getScaledDamage(world, biomeId, variant);
+    public static void validateScaling(World world, int biome, MimicVariant variant) {
+        MimicMod.LOGGER.info("=== Validating Scaling for {} in {} ===", variant, BiomeIndex.idOf(biome));
+        double health = getScaledHealth(world, biome, variant);
+        double damage = getScaledDamage(world, biome, variant);
         int experience = getScaledExperience(variant, 10);
 
         MimicMod.LOGGER.info("Results: Health={}, Damage={}, Experience={}", health, damage, experience);
@@ -0,0 +1,272 @@
+package com.mimicmod.entity;
+
+import com.mimicmod.config.BalanceSnapshot;
+import com.mimicmod.registry.ModEntities;
+import com.mimicmod.registry.ModItems;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.context.LootContextParameters;
+import net.minecraft.loot.context.LootContextTypes;
+import net.minecraft.loot.context.LootWorldContext;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.ReloadableRegistries;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Monte Carlo simulation of mimic drops, for tuning {@code loot_settings} and
+ * the variant loot tables without killing mimics by hand.
+ *
+ * <p>
+ * Each simulated kill rolls the variant's real loot table and the same
+ * precompiled tooth and rare book roll as {@link MimicEntity#dropLoot}. The
+ * kills are split into fixed-size batches on a dedicated fork-join pool, one
+ * thread short of the core count, so the server thread only pays for the
+ * setup. Every batch has its own random source and tally; tallies are merged
+ * as the tasks join, and the result reports the mean count of each item per
+ * kill with a 95% confidence interval.
+ *
+ * <p>
+ * Everything a roll reads is prepared on the server thread and never modified
+ * afterwards: the loot tables, the balance snapshot and a loot context built
+ * around a mimic and a killer that are created but never spawned. Loot
+ * tables are immutable once loaded, so concurrent rolls are safe. Only one
+ * simulation runs at a time.
+ */
+public final class LootSimulator {
+
+    /**
+     * Largest number of kills per simulation.
+     */
+    public static final int MAX_KILLS = 10_000_000;
+
+    private static final int KILLS_PER_TASK = 8192;
+    private static final double Z_95 = 1.959964;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Mimic Loot Simulator-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null, false);
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+
+    private LootSimulator() {
+    }
+
+    /**
+     * Mean count of one item per kill.
+     *
+     * @param item      Dropped item
+     * @param mean      Mean count per kill
+     * @param halfWidth Half width of the 95% confidence interval of the mean
+     */
+    public record ItemStats(Item item, double mean, double halfWidth) {
+    }
+
+    /**
+     * Outcome of a simulation.
+     *
+     * @param variant Simulated variant
+     * @param kills   Number of simulated kills
+     * @param looting Looting level of the simulated killer
+     * @param items   Per-item statistics, most common first
+     * @param nanos   Wall time of the simulation
+     */
+    public record Result(MimicVariant variant, int kills, int looting, List<ItemStats> items, long nanos) {
+    }
+
+    /**
+     * Starts a simulation. Must be called on the server thread.
+     *
+     * @param world   World whose loot tables and registries are used
+     * @param pos     Origin of the simulated kills
+     * @param variant Variant to simulate
+     * @param kills   Number of kills, up to {@link #MAX_KILLS}
+     * @param looting Looting level of the killer
+     * @param player  Player credited with the kills, for player-only loot
+     *                conditions
+     * @return Future completed off the server thread, or null if a simulation
+     *         is already running
+     */
+    @Nullable
+    public static CompletableFuture<Result> start(ServerWorld world, Vec3d pos, MimicVariant variant, int kills,
+            int looting, @Nullable ServerPlayerEntity player) {
+        if (kills < 1 || kills > MAX_KILLS) {
+            throw new IllegalArgumentException("Kill count must be between 1 and " + MAX_KILLS);
+        }
+        if (!RUNNING.compareAndSet(false, true)) {
+            return null;
+        }
+
+        Setup setup;
+        try {
+            setup = Setup.create(world, pos, variant, looting, player);
+        } catch (RuntimeException e) {
+            RUNNING.set(false);
+            throw e;
+        }
+
+        long seed = world.getRandom().nextLong();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            Tally tally = new SimulationTask(setup, kills, new SplittableRandom(seed)).invoke();
+            return new Result(variant, kills, looting, tally.stats(kills), System.nanoTime() - start);
+        }, POOL).whenComplete((result, error) -> RUNNING.set(false));
+    }
+
+    /**
+     * Immutable inputs shared by all simulation tasks.
+     */
+    private record Setup(LootWorldContext context, LootTable lootTable,
+            LootTable rareBookLootTable, BalanceSnapshot balance, int variant, int toothCount) {
+
+        static Setup create(ServerWorld world, Vec3d pos, MimicVariant variant, int looting,
+                @Nullable ServerPlayerEntity player) {
+            MimicEntity mimic = new MimicEntity(ModEntities.MIMIC, world);
+            mimic.refreshPositionAndAngles(pos.x, pos.y, pos.z, 0.0F, 0.0F);
+            mimic.setVariant(variant);
+
+            ZombieEntity killer = new ZombieEntity(world);
+            if (looting > 0) {
+                ItemStack sword = new ItemStack(Items.DIAMOND_SWORD);
+                sword.addEnchantment(world.getRegistryManager().getOrThrow(RegistryKeys.ENCHANTMENT)
+                        .getOrThrow(Enchantments.LOOTING), looting);
+                killer.equipStack(EquipmentSlot.MAINHAND, sword);
+            }
+            DamageSource source = world.getDamageSources().mobAttack(killer);
+
+            LootWorldContext.Builder builder = new LootWorldContext.Builder(world)
+                    .add(LootContextParameters.THIS_ENTITY, mimic)
+                    .add(LootContextParameters.ORIGIN, pos)
+                    .add(LootContextParameters.DAMAGE_SOURCE, source)
+                    .add(LootContextParameters.ATTACKING_ENTITY, killer)
+                    .add(LootContextParameters.DIRECT_ATTACKING_ENTITY, killer);
+            if (player != null) {
+                builder = builder.add(LootContextParameters.LAST_DAMAGE_PLAYER, player);
+            }
+
+            ReloadableRegistries.Lookup lootTables = world.getServer().getReloadableRegistries();
+            return new Setup(builder.build(LootContextTypes.ENTITY),
+                    lootTables.getLootTable(MimicVariant.lootTable(variant.getIndex())),
+                    lootTables.getLootTable(MimicVariant.rareBookLootTable(variant.getIndex())),
+                    BalanceUtils.snapshot(), variant.getIndex(), BalanceUtils.getToothCount(variant, looting));
+        }
+    }
+
+    /**
+     * Simulates a number of kills, splitting until batches are small enough.
+     */
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        private final Setup setup;
+        private final int kills;
+        private final SplittableRandom random;
+
+        private SimulationTask(Setup setup, int kills, SplittableRandom random) {
+            this.setup = setup;
+            this.kills = kills;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (kills <= KILLS_PER_TASK) {
+                return simulate();
+            }
+            int half = kills / 2;
+            SimulationTask left = new SimulationTask(setup, half, random.split());
+            left.fork();
+            Tally right = new SimulationTask(setup, kills - half, random).compute();
+            return right.merge(left.join());
+        }
+
+        private Tally simulate() {
+            Tally tally = new Tally();
+            Reference2IntOpenHashMap<Item> kill = new Reference2IntOpenHashMap<>();
+            boolean hasVariant = setup.variant < setup.balance.variantCount();
+            for (int i = 0; i < kills; i++) {
+                kill.clear();
+                // A zero seed would make the loot context fall back to the world's random
+                setup.lootTable.generateLoot(setup.context, random.nextLong() | 1L,
+                        stack -> kill.addTo(stack.getItem(), stack.getCount()));
+
+                int bonus = hasVariant ? setup.balance.bonusLoot(setup.variant, random.nextDouble()) : 0;
+                if ((bonus & BalanceSnapshot.BONUS_TOOTH) != 0) {
+                    kill.addTo(ModItems.MIMIC_TOOTH, setup.toothCount);
+                }
+                if ((bonus & BalanceSnapshot.BONUS_RARE_BOOK) != 0) {
+                    setup.rareBookLootTable.generateLoot(setup.context, random.nextLong() | 1L,
+                            stack -> kill.addTo(stack.getItem(), stack.getCount()));
+                }
+                tally.add(kill);
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Sum and sum of squares of the per-kill count of each item.
+     */
+    private static final class Tally {
+        private final Reference2ObjectOpenHashMap<Item, double[]> sums = new Reference2ObjectOpenHashMap<>();
+
+        void add(Reference2IntMap<Item> kill) {
+            for (Reference2IntMap.Entry<Item> entry : kill.reference2IntEntrySet()) {
+                double count = entry.getIntValue();
+                double[] sum = sums.computeIfAbsent(entry.getKey(), item -> new double[2]);
+                sum[0] += count;
+                sum[1] += count * count;
+            }
+        }
+
+        Tally merge(Tally other) {
+            for (Reference2ObjectMap.Entry<Item, double[]> entry : other.sums.reference2ObjectEntrySet()) {
+                double[] sum = sums.computeIfAbsent(entry.getKey(), item -> new double[2]);
+                sum[0] += entry.getValue()[0];
+                sum[1] += entry.getValue()[1];
+            }
+            return this;
+        }
+
+        List<ItemStats> stats(int kills) {
+            List<ItemStats> stats = new ArrayList<>(sums.size());
+            for (Reference2ObjectMap.Entry<Item, double[]> entry : sums.reference2ObjectEntrySet()) {
+                double mean = entry.getValue()[0] / kills;
+                // Kills without the item count as 0, so the variance covers all kills
+                double variance = kills > 1
+                        ? Math.max(0.0, (entry.getValue()[1] - entry.getValue()[0] * mean) / (kills - 1))
+                        : 0.0;
+                stats.add(new ItemStats(entry.getKey(), mean, Z_95 * Math.sqrt(variance / kills)));
+            }
+            stats.sort(Comparator.comparingDouble(ItemStats::mean).reversed());
+            return stats;
+        }
+    }
+}
@@ -1,8 +1,27 @@
 package com.mimicmod.entity;
 
 import com.mimicmod.MimicMod;
+import com.mimicmod.config.BalanceSnapshot;
+import com.mimicmod.config.VariantSpec;
+import com.mimicmod.entity.ai.MimicLookAtPlayerGoal;
+import com.mimicmod.entity.ai.MimicTargetGoal;
+import com.mimicmod.entity.ai.ScheduledGoal;
+import com.mimicmod.perf.MimicMetrics;
+import com.mimicmod.perf.MimicTickProfiler;
+import com.mimicmod.perf.event.MimicDeathEvent;
+import com.mimicmod.perf.event.MimicRevealEvent;
+import com.mimicmod.perf.event.MimicStatApplicationEvent;
+import com.mimicmod.registry.ModItems;
 import com.mimicmod.registry.ModSounds;
+import com.mimicmod.world.BiomeIndex;
+import com.mimicmod.world.MimicDeathCollector;
+import com.mimicmod.world.MimicIndex;
+import com.mimicmod.world.PlayerProximityIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityData;
 import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.ai.goal.*;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
@@ -13,44 +32,97 @@ import net.minecraft.entity.data.TrackedDataHandlerRegistry;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.HostileEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.storage.ReadView;
 import net.minecraft.storage.WriteView;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+import net.minecraft.world.LocalDifficulty;
+import net.minecraft.world.ServerWorldAccess;
 import net.minecraft.world.World;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.biome.Biome;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
+
 /**
  * Mimic entity - hostile creature disguised as a chest.
  * Supports multiple variants with different stats and behaviors.
  *
  * OPTIMIZATIONS:
- * - Biome ID cached per chunk (not every tick)
+ * - Biome cached per chunk as an interned int (not every tick)
  * - Idle sound uses entity age instead of manual timer
- * - Variant stored as string for NBT, but cached as enum
- * - Stats applied once on spawn, recalculated on config reload
+ * - Variant stored as string for NBT, synced as part of one packed VarInt
+ * - Stats applied once on spawn, re-scaled in batches on config reload
+ * - Scaled stats read from a pre-compiled {@link BalanceSnapshot}
+ * - Filed in a per-world {@link MimicIndex} for scan-free queries
+ * - Disguised mimics with no player nearby go dormant and skip AI
+ * - Non-critical goals are tick-spread by entity id (see {@link ScheduledGoal})
+ * - Disguised, stationary mimics are tracked at a slow cadence
+ * - Tick phases are sampled into {@link MimicTickProfiler} ({@code /mimic perf})
  */
 public class MimicEntity extends HostileEntity {
 
-    // Data trackers for syncing between client/server
-    private static final TrackedData<String> VARIANT = DataTracker.registerData(MimicEntity.class,
-            TrackedDataHandlerRegistry.STRING);
-    private static final TrackedData<Boolean> REVEALED = DataTracker.registerData(MimicEntity.class,
-            TrackedDataHandlerRegistry.BOOLEAN);
-
-    // Cached variant (type-safe)
-    private MimicVariant cachedVariant = MimicVariant.CLASSIC;
+    /**
+     * Animation phases synced to the client.
+     */
+    public static final int ANIMATION_CLOSED = 0;
+    public static final int ANIMATION_OPENING = 1;
+    public static final int ANIMATION_OPEN = 2;
+
+    // Packed state layout: variant index, revealed and has-target flags,
+    // animation phase. Synced as a single VarInt (2 bytes for all values).
+    private static final int VARIANT_MASK = 0xFF;
+    private static final int REVEALED_BIT = 1 << 8;
+    private static final int TARGET_BIT = 1 << 9;
+    private static final int ANIMATION_SHIFT = 10;
+    private static final int ANIMATION_MASK = 0x3 << ANIMATION_SHIFT;
+
+    // Data tracker for syncing between client/server
+    private static final TrackedData<Integer> STATE = DataTracker.registerData(MimicEntity.class,
+            TrackedDataHandlerRegistry.INTEGER);
+
+    // Ticks the lid stays in the opening phase after a reveal
+    private static final int OPENING_ANIMATION_TICKS = 10;
+    private int openingTicks = 0;
 
     // Biome caching - only update on chunk boundary crossing
-    private String cachedBiomeId = null;
-    private BlockPos lastBiomeCheckPos = null;
+    private int cachedBiome = BiomeIndex.UNKNOWN;
+    private long lastBiomeCheckChunk = Long.MAX_VALUE;
 
-    // State tracking
-    private boolean statsApplied = false;
+    // State tracking: balance snapshot version the stats were applied with
+    private static final int STATS_NOT_APPLIED = 0;
+    private static final int STATS_VERSION_UNKNOWN = -1;
+    private int statsVersion = STATS_NOT_APPLIED;
     private int cachedIdleSoundInterval = -1;
 
+    // Dormancy: disguised mimics with no player nearby skip AI evaluation
+    private static final int WAKE_CHECK_INTERVAL = 5;
+    private boolean dormant = false;
+
+    /**
+     * Tracker update interval of the entity type, used while disguised and
+     * stationary. Active mimics force updates at {@link #ACTIVE_TRACKING_INTERVAL}.
+     */
+    public static final int IDLE_TRACKING_INTERVAL = 20;
+    private static final int ACTIVE_TRACKING_INTERVAL = 3;
+    private boolean activeTracking = false;
+
+    // Set when restored from NBT, so loading a chunk is not counted as a spawn
+    private boolean loadedFromSave = false;
+
+    // Chunk section this mimic is filed under in its world's MimicIndex
+    private long indexedSection = Long.MAX_VALUE;
+
     public MimicEntity(EntityType<? extends HostileEntity> type, World world) {
         super(type, world);
         this.experiencePoints = MimicMod.CONFIG != null
@@ -88,8 +160,20 @@ public class MimicEntity extends HostileEntity {
     @Override
     protected void initDataTracker(DataTracker.Builder builder) {
         super.initDataTracker(builder);
-        builder.add(VARIANT, MimicVariant.CLASSIC.getId());
-        builder.add(REVEALED, false);
+        builder.add(STATE, MimicVariant.fallback().getIndex());
+    }
+
+    @Override
+    @Nullable
+    public EntityData initialize(ServerWorldAccess world, LocalDifficulty difficulty, SpawnReason spawnReason,
+            @Nullable EntityData entityData) {
+        // World-placed mimics roll their variant; commands and eggs choose their own
+        if (spawnReason == SpawnReason.NATURAL || spawnReason == SpawnReason.CHUNK_GENERATION
+                || spawnReason == SpawnReason.SPAWNER || spawnReason == SpawnReason.STRUCTURE) {
+            // Not indexed yet, and chunk generation calls this off the server thread
+            updateState(VARIANT_MASK, BalanceUtils.getRandomVariant().getIndex());
+        }
+        return super.initialize(world, difficulty, spawnReason, entityData);
     }
 
     @Override
@@ -101,37 +185,76 @@ public class MimicEntity extends HostileEntity {
         // Combat goals
         this.goalSelector.add(2, new MeleeAttackGoal(this, 1.0D, false));
 
-        // Movement goals
-        this.goalSelector.add(5, new WanderAroundFarGoal(this, 0.8D));
-        this.goalSelector.add(6, new LookAtEntityGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.add(7, new LookAroundGoal(this));
+        // Movement goals (non-critical, evaluated on scheduled ticks only)
+        this.goalSelector.add(5, new ScheduledGoal(this, new WanderAroundFarGoal(this, 0.8D)));
+        this.goalSelector.add(6, new ScheduledGoal(this, new MimicLookAtPlayerGoal(this, 8.0F)));
+        this.goalSelector.add(7, new ScheduledGoal(this, new LookAroundGoal(this)));
 
         // Targeting goals
         this.targetSelector.add(1, new RevengeGoal(this));
-        this.targetSelector.add(2, new ActiveTargetGoal<>(this, PlayerEntity.class, true));
+        this.targetSelector.add(2, new ScheduledGoal(this, new MimicTargetGoal(this)));
     }
 
     @Override
     public void tick() {
+        // Client: nothing to time
+        if (!(this.getEntityWorld() instanceof ServerWorld serverWorld)) {
+            super.tick();
+            return;
+        }
+
+        MimicTickProfiler perf = MimicTickProfiler.get(serverWorld);
+        boolean sampled = perf.beginTick(this);
+        Profiler profiler = Profilers.get();
+        long time = perf.restart(sampled);
+        profiler.push("mimicSuperTick");
         super.tick();
+        profiler.pop();
+        perf.record(MimicTickProfiler.Phase.SUPER_TICK, sampled, time);
 
-        // Early exit for client
-        if (this.getEntityWorld().isClient())
-            return;
+        // Keep the spatial index current when crossing a section boundary
+        if (ChunkSectionPos.asLong(this.getBlockX() >> 4, this.getBlockY() >> 4,
+                this.getBlockZ() >> 4) != indexedSection) {
+            MimicIndex.get(serverWorld).onMoved(this);
+        }
 
         // Apply stats on first server tick only
-        if (!statsApplied) {
+        time = perf.restart(sampled);
+        profiler.push("mimicStats");
+        if (statsVersion == STATS_NOT_APPLIED) {
             applyScaledStatsFromWorld();
-            statsApplied = true;
+        }
+        profiler.pop();
+        perf.record(MimicTickProfiler.Phase.STATS, sampled, time);
+
+        // Cheap proximity check a few times per second, staggered by entity id
+        if ((this.age + this.getId()) % WAKE_CHECK_INTERVAL == 0) {
+            updateDormancy(serverWorld);
         }
 
         // Reveal on attack (if enabled and not already revealed)
+        time = perf.restart(sampled);
+        profiler.push("mimicReveal");
         if (this.getTarget() != null && !isRevealed() && BalanceUtils.shouldRevealOnAttack()) {
             revealMimic();
         }
+        profiler.pop();
+        perf.record(MimicTickProfiler.Phase.REVEAL, sampled, time);
+
+        // Restore the full tracking cadence while revealed or moving
+        if ((activeTracking || !this.getNavigation().isIdle())
+                && (this.age + this.getId()) % ACTIVE_TRACKING_INTERVAL == 0) {
+            this.velocityDirty = true;
+        }
 
         // Idle sound - only on specific age intervals (not every tick)
+        time = perf.restart(sampled);
+        profiler.push("mimicIdleSound");
         handleIdleSound();
+        profiler.pop();
+        perf.record(MimicTickProfiler.Phase.IDLE_SOUND, sampled, time);
+
+        tickAnimationPhase();
     }
 
     /**
@@ -139,7 +262,8 @@ public class MimicEntity extends HostileEntity {
      * Uses entity age instead of manual timer, caches interval.
      */
     private void handleIdleSound() {
-        if (!this.isAlive() || this.getTarget() != null)
+        // Dormant mimics have no player within earshot
+        if (dormant || !this.isAlive() || this.getTarget() != null)
             return;
 
         // Cache interval once
@@ -150,9 +274,162 @@ public class MimicEntity extends HostileEntity {
         // Play sound at intervals using modulo
         if (this.age % cachedIdleSoundInterval == 0) {
             this.playSound(ModSounds.MIMIC_IDLE, 0.6F, 0.9F + this.random.nextFloat() * 0.2F);
+            MimicMetrics.recordIdleSound();
+        }
+    }
+
+    /**
+     * Puts disguised mimics with no player in aggro range to sleep, and wakes
+     * them once a player comes close.
+     */
+    private void updateDormancy(ServerWorld world) {
+        boolean shouldSleep = !isRevealed()
+                && this.getTarget() == null
+                && !PlayerProximityIndex.get(world).anyWithin(this.getX(), this.getY(), this.getZ(),
+                        BalanceUtils.getAggroRange());
+        if (shouldSleep != dormant) {
+            setDormant(shouldSleep);
+        }
+    }
+
+    /**
+     * Switches dormant mode. While dormant, {@link #isImmobile()} makes the
+     * movement tick skip the mob AI entirely; running goals resume where they
+     * left off once the mimic wakes.
+     */
+    private void setDormant(boolean dormant) {
+        this.dormant = dormant;
+        if (dormant) {
+            this.getNavigation().stop();
+        }
+    }
+
+    /**
+     * Dormant mimics are immobile, so {@code LivingEntity.tickMovement} skips
+     * {@code tickNewAi}: no goal or target selector ticks, and no navigation,
+     * move, look or jump control updates. Physics still runs, so a dormant
+     * mimic still falls and can be pushed.
+     */
+    @Override
+    protected boolean isImmobile() {
+        return super.isImmobile() || dormant;
+    }
+
+    /**
+     * Checks if this mimic is revealed and fighting.
+     * Mimics in combat run all goals at full rate.
+     */
+    public boolean isInCombat() {
+        return isRevealed() && (this.getTarget() != null || this.getAttacker() != null);
+    }
+
+    /**
+     * Checks if this mimic is dormant (disguised with no player nearby).
+     */
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    @Override
+    public boolean damage(ServerWorld world, DamageSource source, float amount) {
+        // Wake immediately so revenge targeting can react
+        if (dormant) {
+            setDormant(false);
+        }
+        return super.damage(world, source, amount);
+    }
+
+    @Override
+    public void onDeath(DamageSource damageSource) {
+        MimicDeathEvent event = new MimicDeathEvent();
+        event.begin();
+        super.onDeath(damageSource);
+        if (this.getEntityWorld().isClient()) {
+            return;
+        }
+        MimicMetrics.recordDeath();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.variant = getVariant().getId();
+            event.damageType = damageSource.getName();
+            event.killedByPlayer = damageSource.getAttacker() instanceof PlayerEntity;
+            event.commit();
+        }
+    }
+
+    /**
+     * Drops the variant's loot table plus the config-driven tooth and rare book,
+     * decided by one roll. The stacks go to the {@link MimicDeathCollector},
+     * which merges them with those of other mimics dying nearby this tick.
+     */
+    @Override
+    protected void dropLoot(ServerWorld world, DamageSource damageSource, boolean causedByPlayer) {
+        int index = getState() & VARIANT_MASK;
+        List<ItemStack> drops = new ArrayList<>();
+        generateLoot(world, damageSource, causedByPlayer, MimicVariant.lootTable(index), drops::add);
+
+        MimicVariant variant = getVariant();
+        int bonus = BalanceUtils.rollBonusLoot(variant, this.random.nextDouble());
+        if ((bonus & BalanceSnapshot.BONUS_TOOTH) != 0) {
+            int looting = MimicLoot.lootingLevel(world, damageSource);
+            drops.add(new ItemStack(ModItems.MIMIC_TOOTH, BalanceUtils.getToothCount(variant, looting)));
+        }
+        if ((bonus & BalanceSnapshot.BONUS_RARE_BOOK) != 0) {
+            generateLoot(world, damageSource, causedByPlayer, MimicVariant.rareBookLootTable(index), drops::add);
+        }
+
+        MimicDeathCollector.get(world).addDrops(this, drops);
+    }
+
+    /**
+     * Same conditions as vanilla, but the experience is handed to the
+     * {@link MimicDeathCollector} instead of spawning orbs right away.
+     */
+    @Override
+    protected void dropExperience(ServerWorld world, @Nullable Entity attacker) {
+        if (!this.isExperienceDroppingDisabled() && (this.shouldAlwaysDropExperience()
+                || this.playerHitTimer > 0 && this.shouldDropExperience()
+                        && world.getGameRules().getBoolean(GameRules.DO_MOB_LOOT))) {
+            MimicDeathCollector.get(world).addExperience(this, this.getExperienceToDrop(world, attacker));
+        }
+    }
+
+    @Override
+    public void checkDespawn() {
+        super.checkDespawn();
+        if (this.isRemoved()) {
+            MimicMetrics.recordDespawn();
         }
     }
 
+    /**
+     * Checks whether this mimic was restored from saved data rather than
+     * newly spawned.
+     */
+    public boolean isLoadedFromSave() {
+        return loadedFromSave;
+    }
+
+    /**
+     * Checks whether this mimic's stats were applied with an older config.
+     * Mimics that never had stats applied are not stale; they apply them on
+     * their first tick.
+     */
+    public boolean hasStaleStats() {
+        return statsVersion != STATS_NOT_APPLIED && statsVersion != BalanceUtils.snapshot().version();
+    }
+
+    /**
+     * Re-applies scaled stats from the current config, keeping the current
+     * health fraction so damaged mimics are not healed by a reload.
+     */
+    public void rescaleStats() {
+        float healthFraction = this.getHealth() / this.getMaxHealth();
+        applyScaledStatsFromWorld();
+        this.setHealth(this.getMaxHealth() * healthFraction);
+    }
+
     /**
      * Applies scaled stats based on current world, biome, and variant.
      * This is called once on spawn and can be manually retriggered.
@@ -160,7 +437,7 @@ public class MimicEntity extends HostileEntity {
     private void applyScaledStatsFromWorld() {
         BlockPos pos = this.getBlockPos();
         updateBiomeIfNeeded(pos);
-        applyScaledStats(cachedBiomeId, cachedVariant);
+        applyScaledStats(cachedBiome, getVariant());
     }
 
     /**
@@ -169,17 +446,14 @@ public class MimicEntity extends HostileEntity {
      */
     private void updateBiomeIfNeeded(BlockPos pos) {
         // Check if moved to a different chunk
-        if (lastBiomeCheckPos == null ||
-                pos.getX() >> 4 != lastBiomeCheckPos.getX() >> 4 ||
-                pos.getZ() >> 4 != lastBiomeCheckPos.getZ() >> 4) {
+        long chunk = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk != lastBiomeCheckChunk) {
             RegistryEntry<Biome> biomeEntry = this.getEntityWorld().getBiome(pos);
-            cachedBiomeId = biomeEntry.getKey()
-                    .map(key -> key.getValue().toString())
-                    .orElse("minecraft:plains");
-            lastBiomeCheckPos = pos;
+            cachedBiome = BiomeIndex.of(biomeEntry);
+            lastBiomeCheckChunk = chunk;
 
             if (MimicMod.CONFIG != null && MimicMod.CONFIG.debug.enable_spawn_logging) {
-                MimicMod.LOGGER.debug("Updated biome for mimic to: {}", cachedBiomeId);
+                MimicMod.LOGGER.debug("Updated biome for mimic to: {}", BiomeIndex.idOf(cachedBiome));
             }
         }
     }
@@ -188,15 +462,26 @@ public class MimicEntity extends HostileEntity {
      * Applies scaled stats for the given biome and variant.
      * Batches all attribute updates together.
      *
-     * @param biomeId Biome identifier e.g., "minecraft:plains"
+     * @param biome   Interned biome index (see {@link BiomeIndex})
      * @param variant Variant identifier
      */
-    public void applyScaledStats(String biomeId, MimicVariant variant) {
-        double health = BalanceUtils.getScaledHealth(this.getEntityWorld(), biomeId, variant);
-        double damage = BalanceUtils.getScaledDamage(this.getEntityWorld(), biomeId, variant);
-        int experience = BalanceUtils.getScaledExperience(variant, this.experiencePoints);
+    public void applyScaledStats(int biome, MimicVariant variant) {
+        MimicStatApplicationEvent event = new MimicStatApplicationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+
+        // Single snapshot read keeps all three values consistent across a reload
+        BalanceSnapshot balance = BalanceUtils.snapshot();
+        int difficulty = this.getEntityWorld().getDifficulty().getId();
+        double health = balance.health(biome, variant.getIndex(), difficulty);
+        double damage = balance.damage(biome, variant.getIndex(), difficulty);
+        int experience = balance.experience(variant.getIndex());
 
         // Batch attribute updates
+        EntityAttributeInstance healthAttr = this.getAttributeInstance(EntityAttributes.MAX_HEALTH);
+        if (healthAttr != null) {
+            healthAttr.setBaseValue(health);
+        }
         this.setHealth((float) health);
         EntityAttributeInstance damageAttr = this.getAttributeInstance(EntityAttributes.ATTACK_DAMAGE);
         if (damageAttr != null) {
@@ -204,10 +489,24 @@ public class MimicEntity extends HostileEntity {
         }
 
         this.experiencePoints = experience;
+        this.statsVersion = balance.version();
+        MimicMetrics.recordStatApplication(System.nanoTime() - startTime);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.variant = variant.getId();
+            event.biome = BiomeIndex.idOf(biome);
+            event.difficulty = difficulty;
+            event.health = health;
+            event.damage = damage;
+            event.experience = experience;
+            event.configVersion = balance.version();
+            event.commit();
+        }
 
-        if (MimicMod.CONFIG != null && MimicMod.CONFIG.debug.enable_combat_logging) {
+        if (balance.config().debug.enable_combat_logging) {
             MimicMod.LOGGER.debug("Applied stats to mimic: variant={}, biome={}, health={}, damage={}, xp={}",
-                    variant, biomeId, health, damage, experience);
+                    variant, BiomeIndex.idOf(biome), health, damage, experience);
         }
     }
 
@@ -216,31 +515,67 @@ public class MimicEntity extends HostileEntity {
      */
     private void revealMimic() {
         setRevealed(true);
+        // Push position with the reveal instead of waiting for the idle interval
+        this.velocityDirty = true;
         this.playSound(ModSounds.MIMIC_REVEAL, 1.0F, 1.0F);
     }
 
+    /**
+     * Advances the opening animation phase after a reveal.
+     */
+    private void tickAnimationPhase() {
+        if (openingTicks > 0 && --openingTicks == 0 && isRevealed()) {
+            updateState(ANIMATION_MASK, ANIMATION_OPEN << ANIMATION_SHIFT);
+        }
+    }
+
+    @Override
+    public void setTarget(@Nullable LivingEntity target) {
+        super.setTarget(target);
+        // Targets are server-only; sync whether there is one for the renderer
+        if (!this.getEntityWorld().isClient()) {
+            updateState(TARGET_BIT, target != null ? TARGET_BIT : 0);
+        }
+    }
+
     // ===== DATA ACCESSORS =====
 
+    private int getState() {
+        return this.dataTracker.get(STATE);
+    }
+
+    /**
+     * Replaces the bits selected by mask. Only marks the tracker dirty when
+     * the packed value actually changes.
+     */
+    private void updateState(int mask, int bits) {
+        int state = getState();
+        int updated = (state & ~mask) | bits;
+        if (updated != state) {
+            this.dataTracker.set(STATE, updated);
+        }
+    }
+
     /**
      * Gets the current variant of this mimic.
-     * Returns cached enum for fast comparisons.
+     * Decoded from the packed state with an array lookup.
      */
     public MimicVariant getVariant() {
-        return cachedVariant;
+        return MimicVariant.byIndex(getState() & VARIANT_MASK);
     }
 
     /**
      * Sets the variant of this mimic.
-     * Updates both the cached enum and tracked data.
      */
     public void setVariant(MimicVariant variant) {
-        this.cachedVariant = variant;
-        this.dataTracker.set(VARIANT, variant.getId());
+        updateState(VARIANT_MASK, variant.getIndex());
+        if (this.getEntityWorld() instanceof ServerWorld serverWorld) {
+            MimicIndex.get(serverWorld).onVariantChanged(this);
+        }
     }
 
     /**
      * Sets the variant by string ID.
-     * Updates both the cached enum and tracked data.
      */
     public void setVariant(String variantId) {
         MimicVariant variant = MimicVariant.fromId(variantId);
@@ -255,14 +590,69 @@ public class MimicEntity extends HostileEntity {
      * Checks if this mimic is revealed.
      */
     public boolean isRevealed() {
-        return this.dataTracker.get(REVEALED);
+        return (getState() & REVEALED_BIT) != 0;
     }
 
     /**
      * Sets the revealed state of this mimic.
+     * Revealing starts the opening animation phase; hiding closes the lid.
+     * Also switches between the idle and active tracking cadence.
      */
     public void setRevealed(boolean revealed) {
-        this.dataTracker.set(REVEALED, revealed);
+        activeTracking = revealed;
+        if (revealed == isRevealed()) {
+            return;
+        }
+        if (revealed) {
+            MimicMetrics.recordReveal();
+            MimicRevealEvent event = new MimicRevealEvent();
+            if (event.shouldCommit()) {
+                event.variant = getVariant().getId();
+                event.hasTarget = this.getTarget() != null;
+                event.health = this.getHealth();
+                event.commit();
+            }
+            openingTicks = OPENING_ANIMATION_TICKS;
+            updateState(REVEALED_BIT | ANIMATION_MASK, REVEALED_BIT | ANIMATION_OPENING << ANIMATION_SHIFT);
+            if (dormant) {
+                setDormant(false);
+            }
+        } else {
+            openingTicks = 0;
+            updateState(REVEALED_BIT | ANIMATION_MASK, ANIMATION_CLOSED << ANIMATION_SHIFT);
+        }
+    }
+
+    /**
+     * Checks if this mimic has a target.
+     * Synced to the client, unlike the target itself. Not to be confused
+     * with vanilla's {@code isAttacking}, which tracks the melee attack goal.
+     */
+    public boolean hasSyncedTarget() {
+        return (getState() & TARGET_BIT) != 0;
+    }
+
+    /**
+     * Gets the current animation phase (see {@code ANIMATION_*}).
+     */
+    public int getAnimationPhase() {
+        return (getState() & ANIMATION_MASK) >> ANIMATION_SHIFT;
+    }
+
+    /**
+     * Gets the chunk section key this mimic is filed under in the
+     * {@link MimicIndex}. Managed by the index.
+     */
+    public long getIndexedSection() {
+        return indexedSection;
+    }
+
+    /**
+     * Sets the chunk section key this mimic is filed under.
+     * Managed by the {@link MimicIndex}.
+     */
+    public void setIndexedSection(long section) {
+        this.indexedSection = section;
     }
 
     /**
@@ -300,7 +690,7 @@ public class MimicEntity extends HostileEntity {
 
     @Override
     public boolean isFireImmune() {
-        return "ender".equals(cachedVariant.getId());
+        return MimicVariant.hasTrait(getState() & VARIANT_MASK, VariantSpec.TRAIT_FIRE_IMMUNE);
     }
 
     // ===== DATA PERSISTENCE (FABRIC 1.21.10 API) =====
@@ -310,22 +700,26 @@ public class MimicEntity extends HostileEntity {
      * Uses Fabric 1.21.10 ReadView API instead of old NbtCompound.
      */
     protected void readCustomData(ReadView view) {
+        loadedFromSave = true;
+
         // Read variant - FABRIC 1.21.10: Use getString with fallback
-        String variantId = view.getString("Variant", MimicVariant.CLASSIC.getId());
+        String variantId = view.getString("Variant", MimicVariant.fallback().getId());
         MimicVariant variant = MimicVariant.fromId(variantId);
-        if (variant != null) {
-            cachedVariant = variant;
-            this.dataTracker.set(VARIANT, variantId);
-        } else {
-            MimicMod.LOGGER.warn("Failed to load variant from ReadView: {}", variantId);
-        }
 
         // Read revealed state - FABRIC 1.21.10: Use getBoolean with fallback
         boolean revealed = view.getBoolean("Revealed", false);
-        this.dataTracker.set(REVEALED, revealed);
 
-        // Read stats applied flag - FABRIC 1.21.10: Use getBoolean with fallback
-        statsApplied = view.getBoolean("StatsApplied", false);
+        // Loaded mimics start fully open, without replaying the reveal
+        int animation = revealed ? ANIMATION_OPEN : ANIMATION_CLOSED;
+        this.dataTracker.set(STATE, variant.getIndex() | (revealed ? REVEALED_BIT : 0)
+                | animation << ANIMATION_SHIFT);
+        activeTracking = revealed;
+
+        // Read stats version - older saves only stored whether stats were applied
+        statsVersion = view.getInt("StatsVersion", STATS_NOT_APPLIED);
+        if (statsVersion == STATS_NOT_APPLIED && view.getBoolean("StatsApplied", false)) {
+            statsVersion = STATS_VERSION_UNKNOWN;
+        }
     }
 
     /**
@@ -334,12 +728,12 @@ public class MimicEntity extends HostileEntity {
      */
     protected void writeCustomData(WriteView view) {
         // Write variant
-        view.putString("Variant", cachedVariant.getId());
+        view.putString("Variant", getVariant().getId());
 
         // Write revealed state
         view.putBoolean("Revealed", isRevealed());
 
-        // Write stats applied flag
-        view.putBoolean("StatsApplied", statsApplied);
+        // Write stats version
+        view.putInt("StatsVersion", statsVersion);
     }
 }
@@ -0,0 +1,73 @@
+package com.mimicmod.entity;
+
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for the drops of a dying mimic.
+ *
+ * <p>
+ * Loot tables, the bonus tooth and the rare book table each produce their own
+ * stacks, often of the same item. Merging them before any
+ * {@link net.minecraft.entity.ItemEntity} exists, together with those of other
+ * mimics dying nearby in the same tick (see
+ * {@link com.mimicmod.world.MimicDeathCollector}), keeps deaths down to one item
+ * entity per distinct item instead of one per loot entry.
+ */
+public final class MimicLoot {
+
+    private MimicLoot() {
+    }
+
+    /**
+     * Merges stacks of the same item and components, up to their max count.
+     * Stacks are merged into the first matching stack, so the order of first
+     * appearance is kept. Empty stacks are dropped.
+     *
+     * @param stacks Stacks to merge, modified in place
+     * @return Merged stacks
+     */
+    public static List<ItemStack> merge(List<ItemStack> stacks) {
+        List<ItemStack> merged = new ArrayList<>(stacks.size());
+        for (ItemStack stack : stacks) {
+            if (stack.isEmpty()) {
+                continue;
+            }
+            for (ItemStack target : merged) {
+                if (target.getCount() < target.getMaxCount() && ItemStack.areItemsAndComponentsEqual(target, stack)) {
+                    int moved = Math.min(stack.getCount(), target.getMaxCount() - target.getCount());
+                    target.increment(moved);
+                    stack.decrement(moved);
+                    if (stack.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            if (!stack.isEmpty()) {
+                merged.add(stack);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Gets the Looting level of the entity behind a damage source.
+     *
+     * @return Looting level, 0 if the attacker is not a living entity
+     */
+    public static int lootingLevel(ServerWorld world, DamageSource source) {
+        if (!(source.getAttacker() instanceof LivingEntity attacker)) {
+            return 0;
+        }
+        return EnchantmentHelper.getEquipmentLevel(world.getRegistryManager()
+                .getOrThrow(RegistryKeys.ENCHANTMENT).getOrThrow(Enchantments.LOOTING), attacker);
+    }
+}
@@ -1,59 +1,195 @@
 package com.mimicmod.entity;
 
+import com.mimicmod.MimicMod;
+import com.mimicmod.config.VariantSpec;
+import com.mimicmod.registry.ModLootTables;
+
+import net.minecraft.loot.LootTable;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Type-safe variant enumeration for Mimic entities.
- * Replaces string-based variant handling with compile-time safety.
+ * A mimic variant, defined by the {@code mimicmod:mimic_variant} data pack
+ * registry (see {@link com.mimicmod.registry.ModVariants}).
+ *
+ * <p>
+ * Every variant has a dense int id, its {@link #getIndex() index}, which is
+ * what entities sync and what per-variant tables are indexed by. Indices are
+ * only stable while a server runs; saves store the string id. The current set
+ * of variants is an immutable table published through a single volatile
+ * write, so lookups by index are array reads and need no locking. Until a
+ * server or client publishes the loaded registry, the mod's built-in variants
+ * are used.
  *
- * Benefits:
- * - Type safety (compile-time verification)
- * - Faster comparisons (enum reference equality)
- * - IDE autocomplete
- * - Reduced memory allocations
+ * <p>
+ * Traits are a bitmask of {@link VariantSpec} {@code TRAIT_*} flags, also kept
+ * in an array by index so hot checks such as fire immunity are one array read
+ * and one AND. Loot tables are kept the same way, so a dying mimic finds its
+ * table without a map lookup.
  */
-public enum MimicVariant {
-    CLASSIC("classic", 1.0, 1.0, 1.0),
-    CORRUPTED("corrupted", 1.5, 1.4, 2.0),
-    ENDER("ender", 2.0, 1.8, 3.0),
-    CHRISTMAS("christmas", 1.2, 1.1, 1.5);
+public final class MimicVariant {
 
+    /**
+     * Largest number of variants; indices must fit the synced entity state.
+     */
+    public static final int MAX_VARIANTS = 256;
+
+    private static volatile Table table = Table.of(builtin());
+
+    private final int index;
     private final String id;
-    private final double healthMultiplier;
-    private final double damageMultiplier;
-    private final double experienceMultiplier;
+    private final Identifier texture;
+    private final RegistryKey<LootTable> lootTable;
+    private final RegistryKey<LootTable> rareBookLootTable;
+    private final VariantSpec spec;
+
+    /**
+     * Creates a variant. Only meaningful once published with
+     * {@link #publish(List)}.
+     *
+     * @param index             Dense id, position in the published list
+     * @param texture           Entity texture
+     * @param lootTable         Loot table rolled on every death
+     * @param rareBookLootTable Loot table rolled when the rare book chance hits
+     * @param spec              Id, traits and balance defaults
+     */
+    public MimicVariant(int index, Identifier texture, RegistryKey<LootTable> lootTable,
+            RegistryKey<LootTable> rareBookLootTable, VariantSpec spec) {
+        this.index = index;
+        this.id = spec.id();
+        this.texture = texture;
+        this.lootTable = lootTable;
+        this.rareBookLootTable = rareBookLootTable;
+        this.spec = spec;
+    }
 
-    MimicVariant(String id, double healthMult, double damageMult, double experienceMult) {
-        this.id = id;
-        this.healthMultiplier = healthMult;
-        this.damageMultiplier = damageMult;
-        this.experienceMultiplier = experienceMult;
+    private static List<MimicVariant> builtin() {
+        List<VariantSpec> specs = VariantSpec.BUILTIN;
+        MimicVariant[] variants = new MimicVariant[specs.size()];
+        for (int i = 0; i < variants.length; i++) {
+            Identifier key = Identifier.of(MimicMod.MODID, specs.get(i).id());
+            variants[i] = new MimicVariant(i, defaultTexture(key), ModLootTables.entityTable(key),
+                    ModLootTables.rareBookTable(key), specs.get(i));
+        }
+        return List.of(variants);
     }
 
     /**
-     * Static lookup map for O(1) variant resolution from string IDs.
+     * Gets the conventional texture of a variant. Built from the registry id
+     * rather than the variant id, which contains a colon for other
+     * namespaces; each namespace has its own texture for a shared name.
+     *
+     * @param key Variant registry id, e.g. {@code mimicmod:classic}
+     * @return {@code <namespace>:textures/entity/mimic_<name>.png}
      */
-    private static final Map<String, MimicVariant> ID_MAP = new HashMap<>();
+    public static Identifier defaultTexture(Identifier key) {
+        return key.withPath(path -> "textures/entity/mimic_" + path + ".png");
+    }
 
-    static {
-        for (MimicVariant variant : values()) {
-            ID_MAP.put(variant.id, variant);
+    /**
+     * Publishes a new set of variants. Called when the variant registry has
+     * been loaded or synced.
+     *
+     * @param variants Variants, each at the position of its index
+     */
+    public static void publish(List<MimicVariant> variants) {
+        if (variants.isEmpty()) {
+            throw new IllegalArgumentException("At least one mimic variant is required");
         }
+        table = Table.of(variants);
     }
 
     /**
-     * Gets variant from string ID with O(1) lookup.
-     * Prefers direct enum comparison when possible.
+     * Gets variant from string ID.
      *
      * @param variantId String identifier for the variant
-     * @return Matching variant, or CLASSIC if not found
+     * @return Matching variant, or the fallback (classic) if not found
      */
     public static MimicVariant fromId(String variantId) {
+        Table current = table;
         if (variantId == null) {
-            return CLASSIC;
+            return current.fallback;
         }
-        return ID_MAP.getOrDefault(variantId, CLASSIC);
+        return current.byId.getOrDefault(variantId, current.fallback);
+    }
+
+    /**
+     * Gets variant from its index, e.g. when decoding synced entity state.
+     *
+     * @param index Dense variant id
+     * @return Matching variant, or the fallback (classic) if out of range
+     */
+    public static MimicVariant byIndex(int index) {
+        Table current = table;
+        return index >= 0 && index < current.variants.length ? current.variants[index] : current.fallback;
+    }
+
+    /**
+     * Checks if the variant with an index has a trait.
+     *
+     * @param index Dense variant id
+     * @param trait {@link VariantSpec} trait flag
+     */
+    public static boolean hasTrait(int index, int trait) {
+        int[] traits = table.traits;
+        return index >= 0 && index < traits.length && (traits[index] & trait) != 0;
+    }
+
+    /**
+     * Gets the main loot table of the variant with an index.
+     *
+     * @param index Dense variant id
+     * @return Loot table, or the fallback's if out of range
+     */
+    public static RegistryKey<LootTable> lootTable(int index) {
+        Table current = table;
+        return index >= 0 && index < current.lootTables.length ? current.lootTables[index]
+                : current.fallback.lootTable;
+    }
+
+    /**
+     * Gets the rare book loot table of the variant with an index.
+     *
+     * @param index Dense variant id
+     * @return Loot table, or the fallback's if out of range
+     */
+    public static RegistryKey<LootTable> rareBookLootTable(int index) {
+        Table current = table;
+        return index >= 0 && index < current.rareBookLootTables.length ? current.rareBookLootTables[index]
+                : current.fallback.rareBookLootTable;
+    }
+
+    /**
+     * Gets the variant used for unknown ids: classic, or the first variant if
+     * there is none.
+     */
+    public static MimicVariant fallback() {
+        return table.fallback;
+    }
+
+    /**
+     * Gets all variants, ordered by index.
+     */
+    public static List<MimicVariant> all() {
+        return table.list;
+    }
+
+    /**
+     * Gets the number of variants.
+     */
+    public static int count() {
+        return table.variants.length;
+    }
+
+    /**
+     * Gets the dense int id of this variant.
+     */
+    public int getIndex() {
+        return index;
     }
 
     /**
@@ -64,28 +200,85 @@ public enum MimicVariant {
     }
 
     /**
-     * Gets the health multiplier for this variant.
+     * Gets the entity texture of this variant.
+     */
+    public Identifier getTexture() {
+        return texture;
+    }
+
+    /**
+     * Gets the loot table rolled on every death of this variant.
+     */
+    public RegistryKey<LootTable> getLootTable() {
+        return lootTable;
+    }
+
+    /**
+     * Gets the loot table rolled when this variant drops its rare book.
      */
-    public double getHealthMultiplier() {
-        return healthMultiplier;
+    public RegistryKey<LootTable> getRareBookLootTable() {
+        return rareBookLootTable;
     }
 
     /**
-     * Gets the damage multiplier for this variant.
+     * Gets the id, traits and balance defaults of this variant.
      */
-    public double getDamageMultiplier() {
-        return damageMultiplier;
+    public VariantSpec getSpec() {
+        return spec;
     }
 
     /**
-     * Gets the experience multiplier for this variant.
+     * Checks if this variant has a {@link VariantSpec} trait flag.
      */
-    public double getExperienceMultiplier() {
-        return experienceMultiplier;
+    public boolean hasTrait(int trait) {
+        return spec.hasTrait(trait);
     }
 
     @Override
     public String toString() {
         return id;
     }
+
+    /**
+     * Immutable published set of variants.
+     */
+    private static final class Table {
+        private final MimicVariant[] variants;
+        private final List<MimicVariant> list;
+        private final Map<String, MimicVariant> byId;
+        private final int[] traits;
+        private final RegistryKey<LootTable>[] lootTables;
+        private final RegistryKey<LootTable>[] rareBookLootTables;
+        private final MimicVariant fallback;
+
+        private Table(MimicVariant[] variants, Map<String, MimicVariant> byId, int[] traits,
+                RegistryKey<LootTable>[] lootTables, RegistryKey<LootTable>[] rareBookLootTables) {
+            this.variants = variants;
+            this.list = List.of(variants);
+            this.byId = byId;
+            this.traits = traits;
+            this.lootTables = lootTables;
+            this.rareBookLootTables = rareBookLootTables;
+            this.fallback = byId.getOrDefault("classic", variants[0]);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Table of(List<MimicVariant> list) {
+            MimicVariant[] variants = list.toArray(new MimicVariant[0]);
+            Map<String, MimicVariant> byId = new HashMap<>();
+            int[] traits = new int[variants.length];
+            RegistryKey<LootTable>[] lootTables = new RegistryKey[variants.length];
+            RegistryKey<LootTable>[] rareBookLootTables = new RegistryKey[variants.length];
+            for (int i = 0; i < variants.length; i++) {
+                if (variants[i].index != i) {
+                    throw new IllegalArgumentException("Variant " + variants[i].id + " is not at its index");
+                }
+                byId.put(variants[i].id, variants[i]);
+                traits[i] = variants[i].spec.traits();
+                lootTables[i] = variants[i].lootTable;
+                rareBookLootTables[i] = variants[i].rareBookLootTable;
+            }
+            return new Table(variants, byId, traits, lootTables, rareBookLootTables);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.mimicmod.entity;
+
+import com.mimicmod.config.VariantSpec;
+import com.mimicmod.registry.ModLootTables;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import net.minecraft.loot.LootTable;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
+
+import java.util.Optional;
+
+/**
+ * Data pack entry of the {@code mimicmod:mimic_variant} registry, found at
+ * {@code data/<namespace>/mimicmod/mimic_variant/<name>.json}.
+ *
+ * <p>
+ * Balance values are defaults that the config overrides per variant id. The
+ * texture defaults to {@code <namespace>:textures/entity/mimic_<name>.png}, the
+ * loot tables to {@code <namespace>:entities/mimic_<name>} and
+ * {@code <namespace>:entities/mimic_<name>_rare_book}.
+ *
+ * @param texture              Entity texture
+ * @param lootTable            Loot table rolled on every death
+ * @param rareBookLootTable    Loot table rolled when the rare book chance hits
+ * @param traits               Bitmask of {@link VariantSpec} trait flags
+ * @param spawnRate            Relative spawn rate
+ * @param healthMultiplier     Health multiplier
+ * @param damageMultiplier     Damage multiplier
+ * @param experienceMultiplier Experience multiplier
+ * @param rareBookChance       Chance to drop the variant's rare book
+ */
+public record MimicVariantDefinition(Optional<Identifier> texture, Optional<RegistryKey<LootTable>> lootTable,
+        Optional<RegistryKey<LootTable>> rareBookLootTable, int traits, double spawnRate,
+        double healthMultiplier, double damageMultiplier, double experienceMultiplier, double rareBookChance) {
+
+    private static final Codec<Integer> TRAITS_CODEC = Codec.STRING.listOf().comapFlatMap(
+            names -> {
+                try {
+                    return DataResult.success(VariantSpec.traitMask(names));
+                } catch (IllegalArgumentException e) {
+                    return DataResult.error(e::getMessage);
+                }
+            },
+            VariantSpec::traitNames);
+
+    private static final Codec<RegistryKey<LootTable>> LOOT_TABLE_CODEC = RegistryKey.createCodec(RegistryKeys.LOOT_TABLE);
+
+    public static final Codec<MimicVariantDefinition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Identifier.CODEC.optionalFieldOf("texture").forGetter(MimicVariantDefinition::texture),
+            LOOT_TABLE_CODEC.optionalFieldOf("loot_table").forGetter(MimicVariantDefinition::lootTable),
+            LOOT_TABLE_CODEC.optionalFieldOf("rare_book_loot_table")
+                    .forGetter(MimicVariantDefinition::rareBookLootTable),
+            TRAITS_CODEC.optionalFieldOf("traits", 0).forGetter(MimicVariantDefinition::traits),
+            Codec.doubleRange(0.0, 1.0).optionalFieldOf("spawn_rate", 0.0)
+                    .forGetter(MimicVariantDefinition::spawnRate),
+            Codec.doubleRange(0.0, Double.MAX_VALUE).optionalFieldOf("health_multiplier", 1.0)
+                    .forGetter(MimicVariantDefinition::healthMultiplier),
+            Codec.doubleRange(0.0, Double.MAX_VALUE).optionalFieldOf("damage_multiplier", 1.0)
+                    .forGetter(MimicVariantDefinition::damageMultiplier),
+            Codec.doubleRange(0.0, Double.MAX_VALUE).optionalFieldOf("experience_multiplier", 1.0)
+                    .forGetter(MimicVariantDefinition::experienceMultiplier),
+            Codec.doubleRange(0.0, 1.0).optionalFieldOf("rare_book_chance", 0.0)
+                    .forGetter(MimicVariantDefinition::rareBookChance))
+            .apply(instance, MimicVariantDefinition::new));
+
+    /**
+     * Resolves this definition into a variant.
+     *
+     * @param index Dense variant id
+     * @param key   Registry id of the entry
+     * @param id    Variant id, as used in the config and NBT
+     */
+    public MimicVariant toVariant(int index, Identifier key, String id) {
+        VariantSpec spec = new VariantSpec(id, traits, spawnRate, healthMultiplier, damageMultiplier,
+                experienceMultiplier, rareBookChance);
+        return new MimicVariant(index, texture.orElseGet(() -> MimicVariant.defaultTexture(key)),
+                lootTable.orElseGet(() -> ModLootTables.entityTable(key)),
+                rareBookLootTable.orElseGet(() -> ModLootTables.rareBookTable(key)), spec);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mimicmod.entity.ai;
+
+import com.mimicmod.world.PlayerProximityIndex;
+
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+
+/**
+ * Look-at-player goal backed by the shared {@link PlayerProximityIndex}.
+ *
+ * <p>
+ * Mirrors {@code LookAtEntityGoal} for players: occasionally picks the closest
+ * visible player in range and watches it for two to four seconds.
+ */
+public class MimicLookAtPlayerGoal extends Goal {
+    private static final float START_CHANCE = 0.02F;
+
+    private final MobEntity mob;
+    private final float range;
+    private final TargetPredicate targetPredicate;
+    @Nullable
+    private PlayerEntity target;
+    private int lookTime;
+
+    public MimicLookAtPlayerGoal(MobEntity mob, float range) {
+        this.mob = mob;
+        this.range = range;
+        this.targetPredicate = TargetPredicate.createNonAttackable().setBaseMaxDistance(range);
+        this.setControls(EnumSet.of(Control.LOOK));
+    }
+
+    @Override
+    public boolean canStart() {
+        if (this.mob.getRandom().nextFloat() >= START_CHANCE) {
+            return false;
+        }
+        if (!(this.mob.getEntityWorld() instanceof ServerWorld world)) {
+            return false;
+        }
+
+        this.target = PlayerProximityIndex.get(world).nearest(this.mob, this.range,
+                player -> this.targetPredicate.test(world, this.mob, player));
+        return this.target != null;
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        return this.target != null
+                && this.target.isAlive()
+                && this.mob.squaredDistanceTo(this.target) <= (double) (this.range * this.range)
+                && this.lookTime > 0;
+    }
+
+    @Override
+    public void start() {
+        this.lookTime = this.getTickCount(40 + this.mob.getRandom().nextInt(40));
+    }
+
+    @Override
+    public void stop() {
+        this.target = null;
+    }
+
+    @Override
+    public void tick() {
+        if (this.target != null && this.target.isAlive()) {
+            this.mob.getLookControl().lookAt(this.target.getX(), this.target.getEyeY(), this.target.getZ());
+            this.lookTime--;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mimicmod.entity.ai;
+
+import com.mimicmod.world.PlayerProximityIndex;
+
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.entity.ai.goal.TrackTargetGoal;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+
+/**
+ * Player targeting goal backed by the shared {@link PlayerProximityIndex}.
+ *
+ * <p>
+ * Behaves like {@code ActiveTargetGoal<PlayerEntity>} with visibility checks
+ * (same reciprocal chance, and players limited only by the follow range of
+ * the target predicate), but candidate players come from the per-tick spatial
+ * hash instead of a world-wide player scan per mimic.
+ */
+public class MimicTargetGoal extends TrackTargetGoal {
+    private static final int RECIPROCAL_CHANCE = 10;
+
+    private final TargetPredicate targetPredicate;
+    @Nullable
+    private PlayerEntity targetEntity;
+
+    public MimicTargetGoal(MobEntity mob) {
+        super(mob, true);
+        this.setControls(EnumSet.of(Control.TARGET));
+        this.targetPredicate = TargetPredicate.createAttackable().setBaseMaxDistance(this.getFollowRange());
+    }
+
+    @Override
+    public boolean canStart() {
+        if (this.mob.getRandom().nextInt(toGoalTicks(RECIPROCAL_CHANCE)) != 0) {
+            return false;
+        }
+        if (!(this.mob.getEntityWorld() instanceof ServerWorld world)) {
+            return false;
+        }
+
+        double range = this.getFollowRange();
+        TargetPredicate predicate = this.targetPredicate.setBaseMaxDistance(range);
+
+        // Like getClosestPlayer: no search box for players, only the predicate's range
+        this.targetEntity = PlayerProximityIndex.get(world).nearest(this.mob, range,
+                player -> predicate.test(world, this.mob, player));
+        return this.targetEntity != null;
+    }
+
+    @Override
+    public void start() {
+        this.mob.setTarget(this.targetEntity);
+        super.start();
+    }
+}
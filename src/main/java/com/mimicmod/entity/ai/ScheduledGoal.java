@@ -0,0 +1,90 @@
+package com.mimicmod.entity.ai;
+
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicEntity;
+
+import net.minecraft.entity.ai.goal.Goal;
+
+/**
+ * Wraps a non-critical goal so its start condition is only evaluated on the
+ * mimic's scheduled ticks.
+ *
+ * <p>
+ * Vanilla evaluates goal start conditions every other tick, phased by
+ * {@code age + id}. This wrapper further limits evaluation to one in
+ * {@code behavior.ai_tick_stride} of those ticks, still phased by entity id,
+ * so a large population spreads its wander/look/scan work evenly instead of
+ * evaluating in bursts. Revealed mimics in combat always evaluate at full rate.
+ * Once started, the wrapped goal runs and ticks normally.
+ */
+public class ScheduledGoal extends Goal {
+    private final MimicEntity mimic;
+    private final Goal goal;
+
+    public ScheduledGoal(MimicEntity mimic, Goal goal) {
+        this.mimic = mimic;
+        this.goal = goal;
+        this.setControls(goal.getControls());
+    }
+
+    /**
+     * Checks whether a mimic may evaluate scheduled goals this tick.
+     */
+    public static boolean isScheduledTick(MimicEntity mimic) {
+        int stride = BalanceUtils.getAiTickStride();
+        if (stride <= 1 || mimic.isInCombat()) {
+            return true;
+        }
+        // Start conditions are only checked when age + id is even
+        return ((mimic.age + mimic.getId()) >> 1) % stride == 0;
+    }
+
+    /**
+     * Gets the number of ticks between scheduled evaluations for a mimic.
+     * Intended for debug output.
+     */
+    public static int getEvaluationInterval(MimicEntity mimic) {
+        int stride = BalanceUtils.getAiTickStride();
+        return stride <= 1 || mimic.isInCombat() ? 2 : 2 * stride;
+    }
+
+    @Override
+    public boolean canStart() {
+        return isScheduledTick(this.mimic) && this.goal.canStart();
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        return this.goal.shouldContinue();
+    }
+
+    @Override
+    public boolean canStop() {
+        return this.goal.canStop();
+    }
+
+    @Override
+    public void start() {
+        this.goal.start();
+    }
+
+    @Override
+    public void stop() {
+        this.goal.stop();
+    }
+
+    @Override
+    public boolean shouldRunEveryTick() {
+        return this.goal.shouldRunEveryTick();
+    }
+
+    @Override
+    public void tick() {
+        this.goal.tick();
+    }
+
+    @Override
+    public String toString() {
+        return "Scheduled[" + this.goal + "]";
+    }
+}
@@ -0,0 +1,267 @@
+package com.mimicmod.perf;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.entity.MimicVariant;
+import com.mimicmod.perf.event.MimicSpawnEvent;
+import com.mimicmod.world.MimicIndex;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mimic subsystem counters, exposed over JMX through {@link MimicMetricsMXBean}.
+ *
+ * <p>
+ * Event counters are {@link LongAdder}s, so recording from the server thread
+ * is a single uncontended add. Live counts are copied from each world's
+ * {@link MimicIndex} and per-minute rates are derived from a 60-second ring of
+ * counter totals, both once per second on the server thread, so JMX readers
+ * never touch game state.
+ */
+public final class MimicMetrics implements MimicMetricsMXBean {
+
+    private static final String OBJECT_NAME = "com.mimicmod:type=MimicMetrics";
+    private static final int SAMPLE_INTERVAL_TICKS = 20;
+    private static final int WINDOW_SECONDS = 60;
+
+    private static final MimicMetrics INSTANCE = new MimicMetrics();
+
+    // Event counters, in ring order
+    private static final int SPAWNS = 0;
+    private static final int REVEALS = 1;
+    private static final int DEATHS = 2;
+    private static final int DESPAWNS = 3;
+    private static final int EVENT_COUNT = 4;
+
+    private final LongAdder[] events = new LongAdder[EVENT_COUNT];
+    private final LongAdder configReloads = new LongAdder();
+    private final LongAdder statApplications = new LongAdder();
+    private final LongAdder statApplicationNanos = new LongAdder();
+    private final LongAccumulator statApplicationMaxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder idleSounds = new LongAdder();
+    private volatile long lastConfigReloadNanos;
+
+    // Server thread only
+    private final long[][] ring = new long[WINDOW_SECONDS][EVENT_COUNT];
+    private int ringIndex;
+
+    // Published by the server thread
+    private volatile long[] perMinute = new long[EVENT_COUNT];
+    private volatile Map<String, Integer> liveByVariant = Collections.emptyMap();
+    private volatile Map<String, Integer> liveByWorld = Collections.emptyMap();
+    private volatile int live;
+
+    private MimicMetrics() {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registers the MBean and hooks counters into the server lifecycle.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+            MimicMod.LOGGER.info("Registered JMX metrics as {}", OBJECT_NAME);
+        } catch (JMException e) {
+            MimicMod.LOGGER.warn("Failed to register JMX metrics, counters are still collected", e);
+        }
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof MimicEntity mimic && !mimic.isLoadedFromSave()) {
+                INSTANCE.events[SPAWNS].increment();
+
+                MimicSpawnEvent event = new MimicSpawnEvent();
+                if (event.shouldCommit()) {
+                    event.variant = mimic.getVariant().getId();
+                    event.world = world.getRegistryKey().getValue().toString();
+                    event.x = mimic.getBlockX();
+                    event.y = mimic.getBlockY();
+                    event.z = mimic.getBlockZ();
+                    event.commit();
+                }
+            }
+        });
+
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (server.getTicks() % SAMPLE_INTERVAL_TICKS == 0) {
+                INSTANCE.sample(server);
+            }
+        });
+    }
+
+    // ===== RECORDING =====
+
+    public static void recordReveal() {
+        INSTANCE.events[REVEALS].increment();
+    }
+
+    public static void recordDeath() {
+        INSTANCE.events[DEATHS].increment();
+    }
+
+    public static void recordDespawn() {
+        INSTANCE.events[DESPAWNS].increment();
+    }
+
+    public static void recordIdleSound() {
+        INSTANCE.idleSounds.increment();
+    }
+
+    /**
+     * Records how long applying scaled stats to one mimic took.
+     */
+    public static void recordStatApplication(long nanos) {
+        INSTANCE.statApplications.increment();
+        INSTANCE.statApplicationNanos.add(nanos);
+        INSTANCE.statApplicationMaxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records a successful config reload and its duration.
+     */
+    public static void recordConfigReload(long nanos) {
+        INSTANCE.configReloads.increment();
+        INSTANCE.lastConfigReloadNanos = nanos;
+    }
+
+    // ===== SAMPLING =====
+
+    private void sample(MinecraftServer server) {
+        List<MimicVariant> variants = MimicVariant.all();
+        int[] variantCounts = new int[variants.size()];
+        Map<String, Integer> byWorld = new LinkedHashMap<>();
+        int total = 0;
+        for (ServerWorld world : server.getWorlds()) {
+            MimicIndex index = MimicIndex.get(world);
+            for (MimicVariant variant : variants) {
+                variantCounts[variant.getIndex()] += index.countByVariant(variant);
+            }
+            byWorld.put(world.getRegistryKey().getValue().toString(), index.size());
+            total += index.size();
+        }
+
+        Map<String, Integer> byVariant = new LinkedHashMap<>();
+        for (MimicVariant variant : variants) {
+            byVariant.put(variant.getId(), variantCounts[variant.getIndex()]);
+        }
+        liveByVariant = Collections.unmodifiableMap(byVariant);
+        liveByWorld = Collections.unmodifiableMap(byWorld);
+        live = total;
+
+        // The slot being overwritten holds the totals from one window ago
+        long[] oldest = ring[ringIndex];
+        long[] rates = new long[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            long current = events[i].sum();
+            rates[i] = current - oldest[i];
+            oldest[i] = current;
+        }
+        ringIndex = (ringIndex + 1) % WINDOW_SECONDS;
+        perMinute = rates;
+    }
+
+    // ===== MXBEAN =====
+
+    @Override
+    public int getLiveMimics() {
+        return live;
+    }
+
+    @Override
+    public Map<String, Integer> getLiveMimicsByVariant() {
+        return liveByVariant;
+    }
+
+    @Override
+    public Map<String, Integer> getLiveMimicsByWorld() {
+        return liveByWorld;
+    }
+
+    @Override
+    public long getSpawnsTotal() {
+        return events[SPAWNS].sum();
+    }
+
+    @Override
+    public long getSpawnsPerMinute() {
+        return perMinute[SPAWNS];
+    }
+
+    @Override
+    public long getRevealsTotal() {
+        return events[REVEALS].sum();
+    }
+
+    @Override
+    public long getRevealsPerMinute() {
+        return perMinute[REVEALS];
+    }
+
+    @Override
+    public long getDeathsTotal() {
+        return events[DEATHS].sum();
+    }
+
+    @Override
+    public long getDeathsPerMinute() {
+        return perMinute[DEATHS];
+    }
+
+    @Override
+    public long getDespawnsTotal() {
+        return events[DESPAWNS].sum();
+    }
+
+    @Override
+    public long getDespawnsPerMinute() {
+        return perMinute[DESPAWNS];
+    }
+
+    @Override
+    public long getConfigReloads() {
+        return configReloads.sum();
+    }
+
+    @Override
+    public double getLastConfigReloadMillis() {
+        return lastConfigReloadNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getStatApplications() {
+        return statApplications.sum();
+    }
+
+    @Override
+    public double getStatApplicationMeanMicros() {
+        long count = statApplications.sum();
+        return count == 0 ? 0.0 : statApplicationNanos.sum() / (count * 1000.0);
+    }
+
+    @Override
+    public double getStatApplicationMaxMicros() {
+        return statApplicationMaxNanos.get() / 1000.0;
+    }
+
+    @Override
+    public long getIdleSoundsEmitted() {
+        return idleSounds.sum();
+    }
+}
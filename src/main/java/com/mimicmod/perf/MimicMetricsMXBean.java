@@ -0,0 +1,48 @@
+package com.mimicmod.perf;
+
+import java.util.Map;
+
+/**
+ * JMX view of the mimic subsystem, registered as
+ * {@code com.mimicmod:type=MimicMetrics}.
+ *
+ * <p>
+ * Gauges and per-minute rates are refreshed once per second on the server
+ * thread; totals are read live.
+ */
+public interface MimicMetricsMXBean {
+
+    int getLiveMimics();
+
+    Map<String, Integer> getLiveMimicsByVariant();
+
+    Map<String, Integer> getLiveMimicsByWorld();
+
+    long getSpawnsTotal();
+
+    long getSpawnsPerMinute();
+
+    long getRevealsTotal();
+
+    long getRevealsPerMinute();
+
+    long getDeathsTotal();
+
+    long getDeathsPerMinute();
+
+    long getDespawnsTotal();
+
+    long getDespawnsPerMinute();
+
+    long getConfigReloads();
+
+    double getLastConfigReloadMillis();
+
+    long getStatApplications();
+
+    double getStatApplicationMeanMicros();
+
+    double getStatApplicationMaxMicros();
+
+    long getIdleSoundsEmitted();
+}
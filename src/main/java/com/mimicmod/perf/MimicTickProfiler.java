@@ -0,0 +1,220 @@
+package com.mimicmod.perf;
+
+import com.mimicmod.entity.MimicEntity;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Sampled per-phase timings of {@link MimicEntity#tick()} for a single world.
+ *
+ * <p>
+ * Each mimic is timed on one tick out of {@link #SAMPLE_INTERVAL}, staggered
+ * by entity id, so the cost of {@link System#nanoTime()} is paid for a small,
+ * evenly spread fraction of ticks. Samples go into fixed-size log-linear
+ * histograms (no allocation, about 19% bucket precision), which is enough to
+ * tell p50 from p99. Every tick is still counted for the throughput figure.
+ * All access happens on the server thread.
+ */
+public final class MimicTickProfiler {
+
+    /**
+     * Timed phases of a mimic tick.
+     */
+    public enum Phase {
+        SUPER_TICK("super tick + goals"),
+        STATS("stat application"),
+        REVEAL("reveal check"),
+        IDLE_SOUND("idle sound");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // Power of two, so the sampling check is a mask
+    private static final int SAMPLE_INTERVAL = 8;
+
+    private static final Map<ServerWorld, MimicTickProfiler> PROFILERS = new IdentityHashMap<>();
+
+    private final Histogram[] histograms = new Histogram[Phase.values().length];
+    private long ticked;
+    private long since = System.nanoTime();
+
+    private MimicTickProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Drops profilers of unloaded worlds.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerWorldEvents.UNLOAD.register((server, world) -> PROFILERS.remove(world));
+    }
+
+    /**
+     * Gets the profiler for a world, creating it on first use.
+     */
+    public static MimicTickProfiler get(ServerWorld world) {
+        return PROFILERS.computeIfAbsent(world, key -> new MimicTickProfiler());
+    }
+
+    /**
+     * Gets the profiler for a world without creating it.
+     */
+    @Nullable
+    public static MimicTickProfiler peek(ServerWorld world) {
+        return PROFILERS.get(world);
+    }
+
+    /**
+     * Counts a mimic tick and decides whether it should be timed.
+     *
+     * @return True if this tick's phases should be recorded
+     */
+    public boolean beginTick(MimicEntity mimic) {
+        ticked++;
+        return ((mimic.age + mimic.getId()) & (SAMPLE_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Gets the start time of a phase, reading the clock only if sampled.
+     *
+     * @param sampled Result of {@link #beginTick(MimicEntity)}
+     */
+    public long restart(boolean sampled) {
+        return sampled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a phase that started at {@code start} if the tick is sampled.
+     *
+     * @param phase   Phase that just ended
+     * @param sampled Result of {@link #beginTick(MimicEntity)}
+     * @param start   Result of {@link #restart(boolean)}
+     */
+    public void record(Phase phase, boolean sampled, long start) {
+        if (sampled) {
+            histograms[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     */
+    public Histogram histogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Gets the number of mimic ticks per second since the last reset.
+     */
+    public double tickedPerSecond() {
+        double seconds = (System.nanoTime() - since) / 1.0E9;
+        return seconds > 0.0 ? ticked / seconds : 0.0;
+    }
+
+    /**
+     * Clears all samples and restarts the throughput window.
+     */
+    public void reset() {
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+        ticked = 0;
+        since = System.nanoTime();
+    }
+
+    /**
+     * Log-linear histogram of nanosecond durations: four sub-buckets per
+     * power of two, up to about 18 minutes.
+     */
+    public static final class Histogram {
+        private static final int SUB_BUCKETS = 4;
+        private static final int BUCKETS = 160;
+
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+        private long max;
+
+        private static int bucketOf(long nanos) {
+            if (nanos < SUB_BUCKETS) {
+                return (int) Math.max(nanos, 0);
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+            int sub = (int) (nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return Math.min((exponent - 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+        }
+
+        private static long lowerBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + 1;
+            return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 2);
+        }
+
+        void record(long nanos) {
+            counts[bucketOf(nanos)]++;
+            count++;
+            if (nanos > max) {
+                max = nanos;
+            }
+        }
+
+        void reset() {
+            Arrays.fill(counts, 0);
+            count = 0;
+            max = 0;
+        }
+
+        /**
+         * Gets the number of recorded samples.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Gets the largest recorded duration in nanoseconds.
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * Gets an upper estimate of a percentile in nanoseconds.
+         *
+         * @param percentile Percentile between 0 and 100
+         * @return Upper bound of the bucket holding the percentile, or 0 if empty
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += counts[bucket];
+                if (seen >= target) {
+                    return Math.min(lowerBound(bucket + 1) - 1, max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A mimic died. The event duration covers death handling, including drops.
+ */
+@Name("com.mimicmod.Death")
+@Label("Mimic Death")
+@Category({ "Mimic Mod", "Lifecycle" })
+@Enabled(false)
+@StackTrace(false)
+public class MimicDeathEvent extends jdk.jfr.Event {
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Damage Type")
+    public String damageType;
+
+    @Label("Killed By Player")
+    public boolean killedByPlayer;
+}
@@ -0,0 +1,30 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A configured loot chance was rolled.
+ */
+@Name("com.mimicmod.LootRoll")
+@Label("Mimic Loot Roll")
+@Category({ "Mimic Mod", "Loot" })
+@Enabled(false)
+@StackTrace(false)
+public class MimicLootRollEvent extends jdk.jfr.Event {
+
+    @Label("Loot")
+    public String loot;
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Chance")
+    public double chance;
+
+    @Label("Dropped")
+    public boolean dropped;
+}
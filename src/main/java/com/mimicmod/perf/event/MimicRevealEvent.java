@@ -0,0 +1,27 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A mimic dropped its disguise.
+ */
+@Name("com.mimicmod.Reveal")
+@Label("Mimic Reveal")
+@Category({ "Mimic Mod", "Lifecycle" })
+@Enabled(false)
+@StackTrace(false)
+public class MimicRevealEvent extends jdk.jfr.Event {
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Has Target")
+    public boolean hasTarget;
+
+    @Label("Health")
+    public float health;
+}
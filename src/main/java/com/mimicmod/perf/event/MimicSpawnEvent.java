@@ -0,0 +1,35 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A newly spawned mimic entered a world.
+ */
+@Name("com.mimicmod.Spawn")
+@Label("Mimic Spawn")
+@Category({ "Mimic Mod", "Lifecycle" })
+@Description("A new mimic entered a world (chunk loads are not counted)")
+@Enabled(false)
+@StackTrace(false)
+public class MimicSpawnEvent extends jdk.jfr.Event {
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("World")
+    public String world;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+}
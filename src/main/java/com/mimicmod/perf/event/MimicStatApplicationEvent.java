@@ -0,0 +1,42 @@
+package com.mimicmod.perf.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Scaled stats were applied to a mimic. The event duration is the time spent
+ * applying them.
+ */
+@Name("com.mimicmod.StatApplication")
+@Label("Mimic Stat Application")
+@Category({ "Mimic Mod", "Balance" })
+@Description("Scaled health, damage and experience applied to a mimic")
+@Enabled(false)
+@StackTrace(false)
+public class MimicStatApplicationEvent extends jdk.jfr.Event {
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Biome")
+    public String biome;
+
+    @Label("Difficulty")
+    public int difficulty;
+
+    @Label("Health")
+    public double health;
+
+    @Label("Damage")
+    public double damage;
+
+    @Label("Experience")
+    public int experience;
+
+    @Label("Config Version")
+    public int configVersion;
+}
@@ -1,9 +1,15 @@
 package com.mimicmod.registry;
 
 import com.mimicmod.MimicMod;
+import com.mimicmod.config.ConfigWatcher;
 import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.LootSimulator;
 import com.mimicmod.entity.MimicEntity;
 import com.mimicmod.entity.MimicVariant;
+import com.mimicmod.entity.ai.ScheduledGoal;
+import com.mimicmod.perf.MimicTickProfiler;
+import com.mimicmod.world.BiomeIndex;
+import com.mimicmod.world.MimicIndex;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
@@ -16,17 +22,21 @@ import net.minecraft.command.CommandSource;
 import net.minecraft.command.argument.EntityArgumentType;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.attribute.EntityAttributes;
-import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Debug commands for testing and managing Mimic entities.
@@ -35,11 +45,21 @@ import java.util.Collection;
 public class ModCommands {
 
     /**
-     * Suggestion provider for mimic variants.
+     * Suggestion provider for mimic variants, from the loaded variant registry.
      */
     private static final SuggestionProvider<ServerCommandSource> VARIANT_SUGGESTIONS = (context,
             builder) -> CommandSource
-                    .suggestMatching(new String[] { "classic", "corrupted", "ender", "christmas" }, builder);
+                    .suggestMatching(MimicVariant.all().stream().map(MimicVariant::getId), builder);
+
+    /**
+     * Search radius for {@code /mimic info} without an entity argument.
+     */
+    private static final double INFO_SEARCH_RADIUS = 16.0;
+
+    /**
+     * Config errors listed in chat by {@code /mimic config reload}.
+     */
+    private static final int MAX_CONFIG_ERRORS = 5;
 
     /**
      * Registers all debug commands.
@@ -68,7 +88,8 @@ public class ModCommands {
                 // /mimic info [entity]
                 .then(CommandManager.literal("info")
                         .then(CommandManager.argument("entity", EntityArgumentType.entity())
-                                .executes(ModCommands::getMimicInfo)))
+                                .executes(ModCommands::getMimicInfo))
+                        .executes(ModCommands::getNearestMimicInfo))
                 // /mimic setvariant [entity] [variant]
                 .then(CommandManager.literal("setvariant")
                         .then(CommandManager.argument("entity", EntityArgumentType.entity())
@@ -96,6 +117,16 @@ public class ModCommands {
                                         context,
                                         IntegerArgumentType.getInteger(context, "count"),
                                         "classic"))))
+                // /mimic lootsim <variant> <count> [looting]
+                .then(CommandManager.literal("lootsim")
+                        .then(CommandManager.argument("variant", StringArgumentType.string())
+                                .suggests(VARIANT_SUGGESTIONS)
+                                .then(CommandManager.argument("count",
+                                        IntegerArgumentType.integer(1, LootSimulator.MAX_KILLS))
+                                        .then(CommandManager.argument("looting", IntegerArgumentType.integer(0, 10))
+                                                .executes(context -> simulateLoot(context,
+                                                        IntegerArgumentType.getInteger(context, "looting"))))
+                                        .executes(context -> simulateLoot(context, 0)))))
                 // /mimic killall
                 .then(CommandManager.literal("killall")
                         .executes(ModCommands::killAllMimics))
@@ -105,7 +136,14 @@ public class ModCommands {
                                 .executes(ModCommands::reloadConfig)))
                 // /mimic biome
                 .then(CommandManager.literal("biome")
-                        .executes(ModCommands::getBiomeInfo)));
+                        .executes(ModCommands::getBiomeInfo))
+                // /mimic perf [reset|dump]
+                .then(CommandManager.literal("perf")
+                        .then(CommandManager.literal("reset")
+                                .executes(ModCommands::resetPerf))
+                        .then(CommandManager.literal("dump")
+                                .executes(context -> showPerf(context, true)))
+                        .executes(context -> showPerf(context, false))));
     }
 
     /**
@@ -121,21 +159,7 @@ public class ModCommands {
 
         try {
             Vec3d pos = player.getEntityPos();
-            MimicEntity mimic = new MimicEntity(ModEntities.MIMIC, player.getEntityWorld());
-            mimic.refreshPositionAndAngles(pos.x, pos.y, pos.z, player.getYaw(), 0.0F);
-
-            MimicVariant variant = MimicVariant.fromId(variantId);
-            mimic.setVariant(variant);
-
-            // Get current biome for stat scaling
-            BlockPos blockPos = player.getBlockPos();
-            RegistryEntry<?> biomeEntry = player.getEntityWorld().getBiome(blockPos);
-            String biomeId = biomeEntry.getKey()
-                    .map(key -> key.getValue().toString())
-                    .orElse("minecraft:plains");
-
-            mimic.applyScaledStats(biomeId, variant);
-            player.getEntityWorld().spawnEntity(mimic);
+            spawnDebugMimic(source.getWorld(), pos.x, pos.y, pos.z, player.getYaw(), MimicVariant.fromId(variantId));
 
             source.sendFeedback(() -> Text.literal("Spawned ")
                     .append(Text.literal(variantId).formatted(Formatting.AQUA))
@@ -159,12 +183,33 @@ public class ModCommands {
                 source.sendError(Text.literal("Target entity is not a mimic"));
                 return 0;
             }
+            return sendMimicInfo(source, mimic);
+        } catch (Exception e) {
+            source.sendError(Text.literal("Failed to get mimic info: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    /**
+     * Gets detailed information about the mimic closest to the source.
+     */
+    private static int getNearestMimicInfo(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        MimicEntity mimic = MimicIndex.get(source.getWorld()).nearest(source.getPosition(), INFO_SEARCH_RADIUS);
+        if (mimic == null) {
+            source.sendError(Text.literal("No mimic within " + (int) INFO_SEARCH_RADIUS + " blocks"));
+            return 0;
+        }
+        return sendMimicInfo(source, mimic);
+    }
 
+    /**
+     * Sends the information block for a mimic to the command source.
+     */
+    private static int sendMimicInfo(ServerCommandSource source, MimicEntity mimic) {
+        try {
             BlockPos pos = mimic.getBlockPos();
-            RegistryEntry<?> biomeEntry = mimic.getEntityWorld().getBiome(pos);
-            String biomeId = biomeEntry.getKey()
-                    .map(key -> key.getValue().toString())
-                    .orElse("unknown");
+            String biomeId = BiomeIndex.idOf(BiomeIndex.of(mimic.getEntityWorld().getBiome(pos)));
 
             int xp = mimic.getExperiencePoints();
 
@@ -173,6 +218,12 @@ public class ModCommands {
                     .append(Text.literal(mimic.getVariant().getId()).formatted(Formatting.AQUA)), false);
             source.sendFeedback(() -> Text.literal("Revealed: ").formatted(Formatting.GRAY)
                     .append(Text.literal(String.valueOf(mimic.isRevealed())).formatted(Formatting.YELLOW)), false);
+            source.sendFeedback(() -> Text.literal("Dormant: ").formatted(Formatting.GRAY)
+                    .append(Text.literal(String.valueOf(mimic.isDormant())).formatted(Formatting.YELLOW)), false);
+            source.sendFeedback(() -> Text.literal("AI Schedule: ").formatted(Formatting.GRAY)
+                    .append(Text.literal("every " + ScheduledGoal.getEvaluationInterval(mimic) + " ticks")
+                            .formatted(Formatting.YELLOW)),
+                    false);
             source.sendFeedback(() -> Text.literal("Health: ").formatted(Formatting.GRAY)
                     .append(Text.literal(String.format("%.1f/%.1f", mimic.getHealth(), mimic.getMaxHealth()))
                             .formatted(Formatting.RED)),
@@ -216,13 +267,9 @@ public class ModCommands {
             mimic.setVariant(variant);
 
             // Reapply stats with new variant
-            BlockPos pos = mimic.getBlockPos();
-            RegistryEntry<?> biomeEntry = mimic.getEntityWorld().getBiome(pos);
-            String biomeId = biomeEntry.getKey()
-                    .map(key -> key.getValue().toString())
-                    .orElse("minecraft:plains");
+            int biome = BiomeIndex.of(mimic.getEntityWorld().getBiome(mimic.getBlockPos()));
 
-            mimic.applyScaledStats(biomeId, variant);
+            mimic.applyScaledStats(biome, variant);
 
             source.sendFeedback(() -> Text.literal("Set mimic variant to ")
                     .append(Text.literal(variantId).formatted(Formatting.AQUA)), true);
@@ -277,6 +324,26 @@ public class ModCommands {
         }
     }
 
+    /**
+     * Creates, scales and spawns a mimic the way the spawn commands do. Public
+     * so the GameTest scenarios spawn their populations through the same path.
+     *
+     * @return Spawned mimic, or null if the world rejected it
+     */
+    @Nullable
+    public static MimicEntity spawnDebugMimic(ServerWorld world, double x, double y, double z, float yaw,
+            MimicVariant variant) {
+        MimicEntity mimic = new MimicEntity(ModEntities.MIMIC, world);
+        mimic.refreshPositionAndAngles(x, y, z, yaw, 0.0F);
+        mimic.setVariant(variant);
+
+        // Stats scale with the biome the mimic spawns in
+        int biome = BiomeIndex.of(world.getBiome(mimic.getBlockPos()));
+        mimic.applyScaledStats(biome, variant);
+
+        return world.spawnEntity(mimic) ? mimic : null;
+    }
+
     /**
      * Spawns multiple mimics in a circle around the player.
      */
@@ -300,21 +367,8 @@ public class ModCommands {
                 double z = centerPos.z + Math.sin(angle) * radius;
                 double y = centerPos.y;
 
-                MimicEntity mimic = new MimicEntity(ModEntities.MIMIC, player.getEntityWorld());
-                mimic.refreshPositionAndAngles(x, y, z, (float) Math.toDegrees(angle), 0.0F);
-
-                MimicVariant variant = MimicVariant.fromId(variantId);
-                mimic.setVariant(variant);
-
-                BlockPos blockPos = mimic.getBlockPos();
-                RegistryEntry<?> biomeEntry = player.getEntityWorld().getBiome(blockPos);
-                String biomeId = biomeEntry.getKey()
-                        .map(key -> key.getValue().toString())
-                        .orElse("minecraft:plains");
-
-                mimic.applyScaledStats(biomeId, variant);
-
-                if (player.getEntityWorld().spawnEntity(mimic)) {
+                if (spawnDebugMimic(source.getWorld(), x, y, z, (float) Math.toDegrees(angle),
+                        MimicVariant.fromId(variantId)) != null) {
                     spawned++;
                 }
             }
@@ -333,18 +387,82 @@ public class ModCommands {
         }
     }
 
+    /**
+     * Simulates mimic kills off the server thread and reports the expected
+     * drops per kill once done.
+     */
+    private static int simulateLoot(CommandContext<ServerCommandSource> context, int looting) {
+        ServerCommandSource source = context.getSource();
+        String variantId = StringArgumentType.getString(context, "variant");
+        int kills = IntegerArgumentType.getInteger(context, "count");
+
+        MimicVariant variant = MimicVariant.fromId(variantId);
+        if (!variant.getId().equals(variantId)) {
+            source.sendError(Text.literal("Unknown mimic variant: " + variantId));
+            return 0;
+        }
+
+        MinecraftServer server = source.getServer();
+        CompletableFuture<LootSimulator.Result> simulation;
+        try {
+            simulation = LootSimulator.start(source.getWorld(), source.getPosition(), variant, kills, looting,
+                    source.getPlayer());
+        } catch (Exception e) {
+            MimicMod.LOGGER.error("Failed to start loot simulation", e);
+            source.sendError(Text.literal("Failed to start loot simulation: " + e.getMessage()));
+            return 0;
+        }
+        if (simulation == null) {
+            source.sendError(Text.literal("A loot simulation is already running"));
+            return 0;
+        }
+
+        simulation.whenComplete((result, error) -> server.execute(() -> {
+            if (error != null) {
+                MimicMod.LOGGER.error("Loot simulation failed", error);
+                source.sendError(Text.literal("Loot simulation failed: " + error.getMessage()));
+            } else {
+                sendLootSimulation(source, result);
+            }
+        }));
+
+        source.sendFeedback(() -> Text.literal("Simulating " + kills + " ")
+                .append(Text.literal(variantId).formatted(Formatting.AQUA))
+                .append(" mimic kills...").formatted(Formatting.GRAY), false);
+        return 1;
+    }
+
+    /**
+     * Sends the report of a finished loot simulation to the command source.
+     */
+    private static void sendLootSimulation(ServerCommandSource source, LootSimulator.Result result) {
+        source.sendFeedback(() -> Text.literal("=== Loot Simulation ===").formatted(Formatting.GOLD), false);
+        source.sendFeedback(() -> Text.literal("Variant: ").formatted(Formatting.GRAY)
+                .append(Text.literal(result.variant().getId()).formatted(Formatting.AQUA))
+                .append(Text.literal(String.format(", %d kills, Looting %d, %.2fs", result.kills(),
+                        result.looting(), result.nanos() / 1.0E9)).formatted(Formatting.GRAY)), false);
+        if (result.items().isEmpty()) {
+            source.sendFeedback(() -> Text.literal("No drops").formatted(Formatting.GRAY), false);
+            return;
+        }
+        for (LootSimulator.ItemStats stats : result.items()) {
+            String line = String.format("%.4f \u00b1 %.4f", stats.mean(), stats.halfWidth());
+            source.sendFeedback(() -> Text.literal("  " + Registries.ITEM.getId(stats.item()) + ": ")
+                    .formatted(Formatting.GRAY)
+                    .append(Text.literal(line).formatted(Formatting.YELLOW))
+                    .append(Text.literal(" per kill").formatted(Formatting.GRAY)), false);
+        }
+        source.sendFeedback(() -> Text.literal("Intervals are 95% confidence").formatted(Formatting.GRAY), false);
+    }
+
     /**
      * Kills all mimic entities in the world.
      */
     private static int killAllMimics(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         try {
-            // Create a large bounding box for the entire world
-            Box worldBox = new Box(-30000000, -64, -30000000, 30000000, 320, 30000000);
-            Collection<MimicEntity> mimics = source.getWorld().getEntitiesByClass(
-                    MimicEntity.class,
-                    worldBox,
-                    entity -> true);
+            // Copy first: discarding a mimic removes it from the index
+            List<MimicEntity> mimics = new ArrayList<>(MimicIndex.get(source.getWorld()).all());
 
             int count = 0;
             for (MimicEntity mimic : mimics) {
@@ -365,21 +483,40 @@ public class ModCommands {
 
     /**
      * Reloads the mod configuration.
+     * Reading and parsing run off the server thread; the new config is
+     * published, and feedback sent, from the tick loop.
      */
     private static int reloadConfig(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
-        try {
-            com.mimicmod.config.MimicConfig newConfig = com.mimicmod.config.MimicConfig.load();
-            MimicMod.CONFIG = newConfig;
-            BalanceUtils.resetConfigCache();
 
-            source.sendFeedback(() -> Text.literal("Configuration reloaded successfully")
-                    .formatted(Formatting.GREEN), true);
-            return 1;
-        } catch (Exception e) {
-            MimicMod.LOGGER.error("Failed to reload config", e);
-            source.sendError(Text.literal("Failed to reload config: " + e.getMessage()));
-            return 0;
+        ConfigWatcher.reloadAsync().whenComplete((result, error) -> {
+            if (error != null) {
+                MimicMod.LOGGER.error("Failed to reload config", error);
+                source.sendError(Text.literal("Failed to reload config: " + error.getMessage()));
+            } else if (result.isValid()) {
+                source.sendFeedback(() -> Text.literal("Configuration reloaded successfully")
+                        .formatted(Formatting.GREEN), true);
+            } else {
+                sendConfigErrors(source, result.errors());
+            }
+        });
+
+        source.sendFeedback(() -> Text.literal("Reloading configuration...").formatted(Formatting.GRAY), false);
+        return 1;
+    }
+
+    /**
+     * Reports why a config was rejected, listing the first errors with their
+     * JSON paths. The full list is in the server log.
+     */
+    private static void sendConfigErrors(ServerCommandSource source, List<String> errors) {
+        source.sendError(Text.literal("Configuration is invalid, keeping current values:"));
+        for (int i = 0; i < Math.min(errors.size(), MAX_CONFIG_ERRORS); i++) {
+            source.sendError(Text.literal("  " + errors.get(i)));
+        }
+        if (errors.size() > MAX_CONFIG_ERRORS) {
+            source.sendError(Text.literal("  ...and " + (errors.size() - MAX_CONFIG_ERRORS)
+                    + " more, see the server log"));
         }
     }
 
@@ -395,13 +532,10 @@ public class ModCommands {
         }
 
         try {
-            BlockPos pos = player.getBlockPos();
-            RegistryEntry<?> biomeEntry = player.getEntityWorld().getBiome(pos);
-            String biomeId = biomeEntry.getKey()
-                    .map(key -> key.getValue().toString())
-                    .orElse("unknown");
+            int biome = BiomeIndex.of(player.getEntityWorld().getBiome(player.getBlockPos()));
+            String biomeId = BiomeIndex.idOf(biome);
 
-            double spawnChance = MimicMod.CONFIG.getBiomeWeight(biomeId);
+            double spawnChance = BalanceUtils.getBiomeSpawnWeight(biome);
 
             source.sendFeedback(() -> Text.literal("=== Biome Information ===").formatted(Formatting.GOLD), false);
             source.sendFeedback(() -> Text.literal("Biome: ").formatted(Formatting.GRAY)
@@ -414,4 +548,69 @@ public class ModCommands {
             return 0;
         }
     }
+
+    /**
+     * Shows sampled tick timings per world and phase.
+     *
+     * @param log Also write the report to the server log
+     */
+    private static int showPerf(CommandContext<ServerCommandSource> context, boolean log) {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(() -> Text.literal("=== Mimic Tick Performance ===").formatted(Formatting.GOLD), false);
+
+        int worlds = 0;
+        for (ServerWorld world : source.getServer().getWorlds()) {
+            MimicTickProfiler perf = MimicTickProfiler.peek(world);
+            if (perf == null) {
+                continue;
+            }
+            worlds++;
+
+            String header = String.format("%s: %.0f mimics ticked/s", world.getRegistryKey().getValue(),
+                    perf.tickedPerSecond());
+            source.sendFeedback(() -> Text.literal(header).formatted(Formatting.AQUA), false);
+            if (log) {
+                MimicMod.LOGGER.info("[perf] {}", header);
+            }
+
+            for (MimicTickProfiler.Phase phase : MimicTickProfiler.Phase.values()) {
+                MimicTickProfiler.Histogram histogram = perf.histogram(phase);
+                String line = String.format("p50=%s p99=%s max=%s (%d samples)",
+                        formatNanos(histogram.percentile(50)), formatNanos(histogram.percentile(99)),
+                        formatNanos(histogram.max()), histogram.count());
+                source.sendFeedback(() -> Text.literal("  " + phase.getLabel() + ": ").formatted(Formatting.GRAY)
+                        .append(Text.literal(line).formatted(Formatting.YELLOW)), false);
+                if (log) {
+                    MimicMod.LOGGER.info("[perf]   {}: {}", phase.getLabel(), line);
+                }
+            }
+        }
+
+        if (worlds == 0) {
+            source.sendFeedback(() -> Text.literal("No mimics ticked yet").formatted(Formatting.GRAY), false);
+        } else if (log) {
+            source.sendFeedback(() -> Text.literal("Report written to the server log").formatted(Formatting.GRAY),
+                    false);
+        }
+        return worlds;
+    }
+
+    /**
+     * Clears sampled tick timings in all worlds.
+     */
+    private static int resetPerf(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        for (ServerWorld world : source.getServer().getWorlds()) {
+            MimicTickProfiler perf = MimicTickProfiler.peek(world);
+            if (perf != null) {
+                perf.reset();
+            }
+        }
+        source.sendFeedback(() -> Text.literal("Reset mimic tick timings").formatted(Formatting.YELLOW), true);
+        return 1;
+    }
+
+    private static String formatNanos(long nanos) {
+        return nanos >= 1_000_000 ? String.format("%.2fms", nanos / 1.0E6) : String.format("%.1fus", nanos / 1.0E3);
+    }
 }
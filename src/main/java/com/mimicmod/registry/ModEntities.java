@@ -2,15 +2,19 @@ package com.mimicmod.registry;
 
 import com.mimicmod.MimicMod;
 import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.world.MimicSpawning;
 
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricDefaultAttributeRegistry;
+import net.fabricmc.fabric.api.object.builder.v1.entity.FabricEntityType;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.SpawnGroup;
+import net.minecraft.entity.SpawnLocationTypes;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.util.Identifier;
+import net.minecraft.world.Heightmap;
 
 /**
  * Registry for mod entities.
@@ -32,10 +36,12 @@ public class ModEntities {
     public static final EntityType<MimicEntity> MIMIC = Registry.register(
             Registries.ENTITY_TYPE,
             MIMIC_KEY.getValue(),
-            EntityType.Builder.create(MimicEntity::new, SpawnGroup.MONSTER)
+            FabricEntityType.Builder.createMob(MimicEntity::new, SpawnGroup.MONSTER,
+                    mob -> mob.spawnRestriction(SpawnLocationTypes.ON_GROUND,
+                            Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, MimicSpawning::canSpawn))
                     .dimensions(0.875F, 0.875F) // Chest-sized hitbox
                     .maxTrackingRange(8)
-                    .trackingTickInterval(3)
+                    .trackingTickInterval(MimicEntity.IDLE_TRACKING_INTERVAL) // Active mimics force updates faster
                     .build(MIMIC_KEY) // CRITICAL: Pass RegistryKey to build()
     );
 
@@ -0,0 +1,47 @@
+package com.mimicmod.registry;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.world.ChestMimicFeature;
+
+import net.fabricmc.fabric.api.biome.v1.BiomeModifications;
+import net.fabricmc.fabric.api.biome.v1.BiomeSelectors;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.feature.DefaultFeatureConfig;
+import net.minecraft.world.gen.feature.PlacedFeature;
+
+/**
+ * Registry for mod worldgen features.
+ * The configured and placed features are data-driven, under
+ * {@code data/mimicmod/worldgen}.
+ */
+public class ModFeatures {
+
+    /**
+     * Chest mimic feature - Marks structure chests to become mimics.
+     */
+    public static final ChestMimicFeature CHEST_MIMICS = Registry.register(
+            Registries.FEATURE,
+            Identifier.of(MimicMod.MODID, "chest_mimics"),
+            new ChestMimicFeature(DefaultFeatureConfig.CODEC));
+
+    private static final RegistryKey<PlacedFeature> CHEST_MIMICS_PLACED = RegistryKey.of(
+            RegistryKeys.PLACED_FEATURE,
+            Identifier.of(MimicMod.MODID, "chest_mimics"));
+
+    /**
+     * Adds the chest mimic feature to overworld biomes.
+     * Runs last, once every structure chest of the chunk is in place.
+     */
+    public static void register() {
+        BiomeModifications.addFeature(
+                BiomeSelectors.foundInOverworld(),
+                GenerationStep.Feature.TOP_LAYER_MODIFICATION,
+                CHEST_MIMICS_PLACED);
+        MimicMod.LOGGER.info("Registered chest mimic worldgen feature");
+    }
+}
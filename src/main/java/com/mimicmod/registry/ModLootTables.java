@@ -2,39 +2,68 @@ package com.mimicmod.registry;
 
 import com.mimicmod.MimicMod;
 
+import net.minecraft.loot.LootTable;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
 import net.minecraft.util.Identifier;
 
 /**
  * Registry for mod loot tables.
- * Defines identifiers for custom loot tables loaded from JSON.
+ * Defines keys for custom loot tables loaded from JSON.
+ *
+ * <p>
+ * Each variant has a main table, {@code entities/mimic_<name>}, rolled on
+ * every death, and a rare book table, {@code entities/mimic_<name>_rare_book},
+ * rolled only when the config-driven rare book chance hits. Variants may name
+ * other tables in their data pack entry.
  */
 public class ModLootTables {
 
     /**
-     * Classic mimic loot table - Basic drops with rare cursed tome.
+     * Classic mimic loot table - Basic drops.
      */
-    public static final Identifier MIMIC = Identifier.of(MimicMod.MODID, "entities/mimic");
+    public static final RegistryKey<LootTable> MIMIC_CLASSIC = entityTable(Identifier.of(MimicMod.MODID, "classic"));
 
     /**
-     * Corrupted mimic loot table - Enhanced drops with corrupted grimoire.
+     * Corrupted mimic loot table - Enhanced drops.
      */
-    public static final Identifier MIMIC_CORRUPTED = Identifier.of(MimicMod.MODID, "entities/mimic_corrupted");
+    public static final RegistryKey<LootTable> MIMIC_CORRUPTED = entityTable(Identifier.of(MimicMod.MODID, "corrupted"));
 
     /**
-     * Ender mimic loot table - End-themed drops with enderian codex.
+     * Ender mimic loot table - End-themed drops.
      */
-    public static final Identifier MIMIC_ENDER = Identifier.of(MimicMod.MODID, "entities/mimic_ender");
+    public static final RegistryKey<LootTable> MIMIC_ENDER = entityTable(Identifier.of(MimicMod.MODID, "ender"));
 
     /**
-     * Christmas mimic loot table - Festive drops with Santa's naughty list.
+     * Christmas mimic loot table - Festive drops.
      */
-    public static final Identifier MIMIC_CHRISTMAS = Identifier.of(MimicMod.MODID, "entities/mimic_christmas");
+    public static final RegistryKey<LootTable> MIMIC_CHRISTMAS = entityTable(Identifier.of(MimicMod.MODID, "christmas"));
+
+    /**
+     * Gets the conventional main loot table of a variant.
+     *
+     * @param variant Variant registry id, e.g. {@code mimicmod:classic}
+     * @return Key of {@code <namespace>:entities/mimic_<name>}
+     */
+    public static RegistryKey<LootTable> entityTable(Identifier variant) {
+        return RegistryKey.of(RegistryKeys.LOOT_TABLE, variant.withPath(path -> "entities/mimic_" + path));
+    }
+
+    /**
+     * Gets the conventional rare book loot table of a variant.
+     *
+     * @param variant Variant registry id, e.g. {@code mimicmod:classic}
+     * @return Key of {@code <namespace>:entities/mimic_<name>_rare_book}
+     */
+    public static RegistryKey<LootTable> rareBookTable(Identifier variant) {
+        return RegistryKey.of(RegistryKeys.LOOT_TABLE, variant.withPath(path -> "entities/mimic_" + path + "_rare_book"));
+    }
 
     /**
      * Initializes all mod loot tables.
      * Called during mod initialization.
      */
     public static void register() {
-        MimicMod.LOGGER.info("Registered {} loot table identifiers", 4);
+        MimicMod.LOGGER.info("Registered {} loot table keys", 8);
     }
 }
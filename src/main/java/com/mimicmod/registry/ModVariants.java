@@ -0,0 +1,78 @@
+package com.mimicmod.registry;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicVariant;
+import com.mimicmod.entity.MimicVariantDefinition;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registry for mimic variants.
+ * Variants are data-driven: a synced dynamic registry loaded from data packs
+ * with the world, and sent to clients on join so both sides agree on the
+ * dense variant ids.
+ */
+public class ModVariants {
+
+    /**
+     * Registry key of the mimic variant registry.
+     */
+    public static final RegistryKey<Registry<MimicVariantDefinition>> MIMIC_VARIANT = RegistryKey.ofRegistry(
+            Identifier.of(MimicMod.MODID, "mimic_variant"));
+
+    /**
+     * Registers the variant registry and publishes it when a server starts.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        DynamicRegistries.registerSynced(MIMIC_VARIANT, MimicVariantDefinition.CODEC);
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> publish(server.getRegistryManager()));
+    }
+
+    /**
+     * Publishes the variants of a loaded registry, indexed by raw id, and
+     * recompiles the balance snapshot for them. Also called by the client
+     * after joining a server.
+     *
+     * @param registries Registries holding the variant registry
+     */
+    public static void publish(DynamicRegistryManager registries) {
+        Registry<MimicVariantDefinition> registry = registries.getOrThrow(MIMIC_VARIANT);
+        List<MimicVariant> variants = new ArrayList<>(registry.size());
+        for (int index = 0; index < registry.size(); index++) {
+            if (index == MimicVariant.MAX_VARIANTS) {
+                MimicMod.LOGGER.error("Only the first {} of {} mimic variants are used",
+                        MimicVariant.MAX_VARIANTS, registry.size());
+                break;
+            }
+            MimicVariantDefinition definition = registry.get(index);
+            Identifier id = registry.getId(definition);
+            variants.add(definition.toVariant(index, id, variantId(id)));
+        }
+        if (variants.isEmpty()) {
+            MimicMod.LOGGER.error("No mimic variants loaded, keeping the built-in variants");
+            return;
+        }
+
+        MimicVariant.publish(variants);
+        BalanceUtils.setVariants(variants);
+        MimicMod.LOGGER.info("Loaded {} mimic variants: {}", variants.size(), variants);
+    }
+
+    /**
+     * Gets the config and NBT id of a variant: the bare name for this mod's
+     * namespace, the full identifier otherwise.
+     */
+    private static String variantId(Identifier id) {
+        return id.getNamespace().equals(MimicMod.MODID) ? id.getPath() : id.toString();
+    }
+}
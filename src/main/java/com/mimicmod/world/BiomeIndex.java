@@ -0,0 +1,91 @@
+package com.mimicmod.world;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * Interns biome registry entries to compact int indices.
+ *
+ * <p>
+ * Indices are the raw ids of the server's biome registry, captured once when
+ * the server starts (biomes are fixed for the lifetime of a server). Balance
+ * tables are compiled against the same ids, so entities and commands can pass
+ * biomes around as plain ints instead of building and hashing id strings.
+ */
+public final class BiomeIndex {
+
+    /**
+     * Index used for biomes that could not be resolved.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static volatile BiomeIndex current = new BiomeIndex(null, new String[0]);
+
+    private final Registry<Biome> registry;
+    private final String[] ids;
+
+    private BiomeIndex(Registry<Biome> registry, String[] ids) {
+        this.registry = registry;
+        this.ids = ids;
+    }
+
+    /**
+     * Hooks interning into the server lifecycle.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTING.register(BiomeIndex::rebuild);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            current = new BiomeIndex(null, new String[0]);
+            BalanceUtils.setBiomeIds(current.ids);
+        });
+    }
+
+    /**
+     * Captures the biome registry of the given server and recompiles balance
+     * tables against it.
+     */
+    private static void rebuild(MinecraftServer server) {
+        Registry<Biome> registry = server.getRegistryManager().getOrThrow(RegistryKeys.BIOME);
+        String[] ids = new String[registry.size()];
+        for (Biome biome : registry) {
+            ids[registry.getRawId(biome)] = String.valueOf(registry.getId(biome));
+        }
+
+        current = new BiomeIndex(registry, ids);
+        BalanceUtils.setBiomeIds(ids);
+        MimicMod.LOGGER.info("Interned {} biomes", ids.length);
+    }
+
+    /**
+     * Resolves a biome entry to its interned index.
+     *
+     * @param biome Biome registry entry, e.g. from {@code World.getBiome(pos)}
+     * @return Interned index, or {@link #UNKNOWN}
+     */
+    public static int of(RegistryEntry<Biome> biome) {
+        Registry<Biome> registry = current.registry;
+        if (registry == null) {
+            return UNKNOWN;
+        }
+        return registry.getRawId(biome.value());
+    }
+
+    /**
+     * Gets the identifier string for an interned biome index.
+     * Intended for display and logging only.
+     *
+     * @return Biome identifier, or "unknown"
+     */
+    public static String idOf(int biome) {
+        String[] ids = current.ids;
+        return biome >= 0 && biome < ids.length ? ids[biome] : "unknown";
+    }
+}
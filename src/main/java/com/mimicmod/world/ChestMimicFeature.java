@@ -0,0 +1,107 @@
+package com.mimicmod.world;
+
+import com.mimicmod.config.MimicConfig;
+import com.mimicmod.entity.BalanceUtils;
+import com.mojang.serialization.Codec;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.LootTables;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.StructureWorldAccess;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.gen.feature.DefaultFeatureConfig;
+import net.minecraft.world.gen.feature.Feature;
+import net.minecraft.world.gen.feature.util.FeatureContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Worldgen feature that marks structure chests to become mimics.
+ *
+ * <p>
+ * Placed once per chunk in the last decoration step, after dungeons,
+ * mineshafts and strongholds have put down their chests. Each dungeon or
+ * stronghold chest, and each mineshaft chest minecart, whose loot has not been
+ * rolled yet is picked with probability {@code chest_replacement_chance}, for
+ * the structures enabled by {@code spawn_in_*}. Picked chests are only recorded
+ * as {@link ChestMimicPlaceholders.Placeholder}s on the chunk; the mimics are
+ * created by {@link ChestMimicPlaceholders} once the chunk ticks.
+ *
+ * <p>
+ * This runs on the parallel worldgen threads. It touches nothing but the chunk
+ * being decorated, draws from the feature's own seeded random, and reads the
+ * config through the immutable balance snapshot, so it needs no locking and
+ * never reaches into the server world.
+ */
+public class ChestMimicFeature extends Feature<DefaultFeatureConfig> {
+
+    private static final String CHEST_MINECART_ID = "minecraft:chest_minecart";
+    private static final String MINESHAFT_LOOT_TABLE = LootTables.ABANDONED_MINESHAFT_CHEST.getValue().toString();
+
+    public ChestMimicFeature(Codec<DefaultFeatureConfig> codec) {
+        super(codec);
+    }
+
+    @Override
+    public boolean generate(FeatureContext<DefaultFeatureConfig> context) {
+        MimicConfig.SpawnSettings settings = BalanceUtils.snapshot().config().spawn_settings;
+        double chance = settings.chest_replacement_chance;
+        if (chance <= 0.0) {
+            return false;
+        }
+
+        StructureWorldAccess world = context.getWorld();
+        Chunk chunk = world.getChunk(context.getOrigin());
+        Random random = context.getRandom();
+        List<ChestMimicPlaceholders.Placeholder> placeholders = new ArrayList<>();
+
+        if (settings.spawn_in_dungeon || settings.spawn_in_stronghold) {
+            for (BlockPos pos : chunk.getBlockEntityPositions()) {
+                BlockEntity blockEntity = world.getBlockEntity(pos);
+                if (blockEntity instanceof ChestBlockEntity chest
+                        && isReplaceable(settings, chest.getLootTable())
+                        && random.nextDouble() < chance) {
+                    placeholders.add(new ChestMimicPlaceholders.Placeholder(pos.toImmutable(), false));
+                }
+            }
+        }
+
+        // Mineshaft chests are minecarts, still stored as entity data on the proto chunk
+        if (settings.spawn_in_mineshaft && chunk instanceof ProtoChunk protoChunk) {
+            for (NbtCompound entity : protoChunk.getEntities()) {
+                if (CHEST_MINECART_ID.equals(entity.getString("id", ""))
+                        && MINESHAFT_LOOT_TABLE.equals(entity.getString("LootTable", ""))
+                        && random.nextDouble() < chance) {
+                    entity.get("Pos", Vec3d.CODEC).ifPresent(pos -> placeholders
+                            .add(new ChestMimicPlaceholders.Placeholder(BlockPos.ofFloored(pos), true)));
+                }
+            }
+        }
+
+        if (placeholders.isEmpty()) {
+            return false;
+        }
+        chunk.setAttached(ChestMimicPlaceholders.PLACEHOLDERS, List.copyOf(placeholders));
+        return true;
+    }
+
+    private static boolean isReplaceable(MimicConfig.SpawnSettings settings, RegistryKey<LootTable> lootTable) {
+        if (LootTables.SIMPLE_DUNGEON_CHEST.equals(lootTable)) {
+            return settings.spawn_in_dungeon;
+        }
+        if (LootTables.STRONGHOLD_CORRIDOR_CHEST.equals(lootTable)
+                || LootTables.STRONGHOLD_CROSSING_CHEST.equals(lootTable)
+                || LootTables.STRONGHOLD_LIBRARY_CHEST.equals(lootTable)) {
+            return settings.spawn_in_stronghold;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package com.mimicmod.world;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.registry.ModEntities;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.ChestBlock;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.entity.SpawnReason;
+import net.minecraft.entity.vehicle.ChestMinecartEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns chest placeholders recorded by {@link ChestMimicFeature} into mimics
+ * for a single {@link ServerWorld}.
+ *
+ * <p>
+ * Placeholders are stored as a persistent chunk attachment, so chunks
+ * generated ahead of time (for example by a pre-generator) keep them on disk
+ * and cost the server thread nothing. A loaded chunk carrying placeholders is
+ * queued; once it is entity-ticking, a bounded number of queued chunks per
+ * tick swap their chests for disguised mimics and drop the attachment. A chest
+ * that was opened or broken in the meantime is left alone.
+ */
+public final class ChestMimicPlaceholders {
+
+    /**
+     * A chest picked during worldgen.
+     *
+     * @param pos      Chest block, or block containing the chest minecart
+     * @param minecart True for a mineshaft chest minecart
+     */
+    public record Placeholder(BlockPos pos, boolean minecart) {
+        public static final Codec<Placeholder> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                BlockPos.CODEC.fieldOf("pos").forGetter(Placeholder::pos),
+                Codec.BOOL.optionalFieldOf("minecart", false).forGetter(Placeholder::minecart))
+                .apply(instance, Placeholder::new));
+    }
+
+    /**
+     * Chunk attachment holding the placeholders not yet materialized.
+     */
+    public static final AttachmentType<List<Placeholder>> PLACEHOLDERS = AttachmentRegistry.create(
+            Identifier.of(MimicMod.MODID, "chest_mimics"),
+            builder -> builder.persistent(Placeholder.CODEC.listOf()));
+
+    /**
+     * Maximum number of queued chunks looked at per world tick.
+     */
+    private static final int CHUNKS_PER_TICK = 4;
+
+    private static final Map<ServerWorld, ChestMimicPlaceholders> QUEUES = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    // Loaded chunks with placeholders, oldest first
+    private final LongLinkedOpenHashSet pending = new LongLinkedOpenHashSet();
+
+    private ChestMimicPlaceholders(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Hooks placeholder materialization into chunk loading and world ticks.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (chunk.hasAttached(PLACEHOLDERS)) {
+                QUEUES.computeIfAbsent(world, ChestMimicPlaceholders::new).pending.add(chunk.getPos().toLong());
+            }
+        });
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            ChestMimicPlaceholders queue = QUEUES.get(world);
+            if (queue != null) {
+                queue.pending.remove(chunk.getPos().toLong());
+            }
+        });
+
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            ChestMimicPlaceholders queue = QUEUES.get(world);
+            if (queue != null && !queue.pending.isEmpty()) {
+                queue.tick();
+            }
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> QUEUES.remove(world));
+    }
+
+    private void tick() {
+        int checks = Math.min(CHUNKS_PER_TICK, pending.size());
+        for (int i = 0; i < checks; i++) {
+            long chunkPos = pending.removeFirstLong();
+            int chunkX = ChunkPos.getPackedX(chunkPos);
+            int chunkZ = ChunkPos.getPackedZ(chunkPos);
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+            if (chunk == null) {
+                continue;
+            }
+
+            // Not ticking yet (e.g. at the edge of view distance): check again later
+            if (!world.shouldTickEntity(new BlockPos(chunkX << 4, world.getBottomY(), chunkZ << 4))) {
+                pending.add(chunkPos);
+                continue;
+            }
+
+            List<Placeholder> placeholders = chunk.removeAttached(PLACEHOLDERS);
+            if (placeholders == null) {
+                continue;
+            }
+            for (Placeholder placeholder : placeholders) {
+                if (placeholder.minecart()) {
+                    materializeMinecart(placeholder.pos());
+                } else {
+                    materializeChest(placeholder.pos());
+                }
+            }
+        }
+    }
+
+    private void materializeChest(BlockPos pos) {
+        // Only chests whose loot was never rolled, i.e. never opened
+        if (!(world.getBlockEntity(pos) instanceof ChestBlockEntity chest) || chest.getLootTable() == null) {
+            return;
+        }
+        BlockState state = world.getBlockState(pos);
+        float yaw = state.contains(ChestBlock.FACING)
+                ? state.get(ChestBlock.FACING).getPositiveHorizontalDegrees()
+                : 0.0F;
+        world.removeBlock(pos, false);
+        spawnMimic(pos, yaw);
+    }
+
+    private void materializeMinecart(BlockPos pos) {
+        List<ChestMinecartEntity> minecarts = world.getEntitiesByClass(ChestMinecartEntity.class,
+                new Box(pos).expand(1.0), minecart -> minecart.getLootTable() != null);
+        if (minecarts.isEmpty()) {
+            return;
+        }
+        ChestMinecartEntity minecart = minecarts.get(0);
+        BlockPos minecartPos = minecart.getBlockPos();
+        float yaw = minecart.getYaw();
+        minecart.discard();
+        spawnMimic(minecartPos, yaw);
+    }
+
+    private void spawnMimic(BlockPos pos, float yaw) {
+        MimicEntity mimic = new MimicEntity(ModEntities.MIMIC, world);
+        mimic.refreshPositionAndAngles(pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, yaw, 0.0F);
+        mimic.initialize(world, world.getLocalDifficulty(pos), SpawnReason.STRUCTURE, null);
+        mimic.setPersistent();
+        world.spawnEntity(mimic);
+
+        if (BalanceUtils.snapshot().config().debug.enable_spawn_logging) {
+            MimicMod.LOGGER.info("Chest at {} became a {} mimic", pos, mimic.getVariant().getId());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.mimicmod.world;
+
+import com.mimicmod.entity.MimicLoot;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.ExperienceOrbEntity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-world collector for the drops and experience of mimics dying in the same
+ * tick.
+ *
+ * <p>
+ * Deaths are grouped by chunk section (16 blocks on each axis), so loot never
+ * moves to a cave or floor far above or below where it dropped. At the end of
+ * the world tick each group spawns its stacks merged (see
+ * {@link MimicLoot#merge(List)}) and its experience as one
+ * {@link ExperienceOrbEntity#spawn spawn} call, which splits it into the
+ * fewest orb sizes. Everything appears where the first mimic of the group died.
+ * A farm killing fifty mimics in one section thus adds a handful of entities
+ * instead of hundreds, and vanilla item and orb merging has next to nothing
+ * left to scan. All access happens on the server thread.
+ */
+public final class MimicDeathCollector {
+
+    private static final Map<ServerWorld, MimicDeathCollector> COLLECTORS = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    // Deaths of the current tick by chunk section, in order of first death
+    private final Long2ObjectLinkedOpenHashMap<Batch> batches = new Long2ObjectLinkedOpenHashMap<>();
+
+    private MimicDeathCollector(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Hooks the end-of-tick flush and drops collectors of unloaded worlds.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            MimicDeathCollector collector = COLLECTORS.get(world);
+            if (collector != null && !collector.batches.isEmpty()) {
+                collector.flush();
+            }
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> COLLECTORS.remove(world));
+    }
+
+    /**
+     * Gets the collector for a world.
+     */
+    public static MimicDeathCollector get(ServerWorld world) {
+        return COLLECTORS.computeIfAbsent(world, MimicDeathCollector::new);
+    }
+
+    /**
+     * Queues the item drops of a dying entity.
+     */
+    public void addDrops(LivingEntity entity, List<ItemStack> stacks) {
+        if (!stacks.isEmpty()) {
+            batch(entity).stacks.addAll(stacks);
+        }
+    }
+
+    /**
+     * Queues the experience of a dying entity.
+     */
+    public void addExperience(LivingEntity entity, int amount) {
+        if (amount > 0) {
+            batch(entity).experience += amount;
+        }
+    }
+
+    private Batch batch(LivingEntity entity) {
+        long section = ChunkSectionPos.asLong(entity.getBlockPos());
+        Batch batch = batches.get(section);
+        if (batch == null) {
+            batch = new Batch(entity.getEntityPos());
+            batches.put(section, batch);
+        }
+        return batch;
+    }
+
+    private void flush() {
+        for (Batch batch : batches.values()) {
+            Vec3d pos = batch.pos;
+            for (ItemStack stack : MimicLoot.merge(batch.stacks)) {
+                ItemEntity item = new ItemEntity(world, pos.x, pos.y, pos.z, stack);
+                item.setToDefaultPickupDelay();
+                world.spawnEntity(item);
+            }
+            if (batch.experience > 0) {
+                ExperienceOrbEntity.spawn(world, pos, batch.experience);
+            }
+        }
+        batches.clear();
+    }
+
+    /**
+     * Drops and experience of the deaths in one chunk section.
+     */
+    private static final class Batch {
+        private final Vec3d pos;
+        private final List<ItemStack> stacks = new ArrayList<>();
+        private int experience;
+
+        private Batch(Vec3d pos) {
+            this.pos = pos;
+        }
+    }
+}
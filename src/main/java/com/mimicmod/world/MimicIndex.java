@@ -0,0 +1,235 @@
+package com.mimicmod.world;
+
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.entity.MimicVariant;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of the mimics loaded in a single {@link ServerWorld}.
+ *
+ * <p>
+ * Mimics are bucketed by chunk section (16x16x16) and kept up to date on
+ * entity load, unload and section crossings, so queries only touch the
+ * sections they cover instead of scanning every entity in the world.
+ * All access happens on the server thread.
+ */
+public final class MimicIndex {
+
+    private static final Map<ServerWorld, MimicIndex> INDICES = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<List<MimicEntity>> sections = new Long2ObjectOpenHashMap<>();
+    private final Map<MimicEntity, MimicVariant> indexed = new IdentityHashMap<>();
+    // By variant index; sized for any variant set, which can change between servers
+    private final int[] variantCounts = new int[MimicVariant.MAX_VARIANTS];
+
+    private MimicIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Hooks index maintenance into entity and world lifecycle events.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof MimicEntity mimic) {
+                get(world).add(mimic);
+            }
+        });
+
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof MimicEntity mimic) {
+                get(world).remove(mimic);
+            }
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> INDICES.remove(world));
+    }
+
+    /**
+     * Gets the index for a world, creating it on first use.
+     */
+    public static MimicIndex get(ServerWorld world) {
+        return INDICES.computeIfAbsent(world, MimicIndex::new);
+    }
+
+    // ===== MAINTENANCE =====
+
+    private void add(MimicEntity mimic) {
+        if (indexed.containsKey(mimic)) {
+            return;
+        }
+        long section = sectionKey(mimic);
+        sections.computeIfAbsent(section, key -> new ArrayList<>()).add(mimic);
+        mimic.setIndexedSection(section);
+        indexed.put(mimic, mimic.getVariant());
+        variantCounts[mimic.getVariant().getIndex()]++;
+    }
+
+    private void remove(MimicEntity mimic) {
+        MimicVariant variant = indexed.remove(mimic);
+        if (variant == null) {
+            return;
+        }
+        removeFromSection(mimic, mimic.getIndexedSection());
+        variantCounts[variant.getIndex()]--;
+    }
+
+    /**
+     * Moves a mimic to its current section.
+     * Called by the mimic when it crosses a section boundary.
+     */
+    public void onMoved(MimicEntity mimic) {
+        if (!indexed.containsKey(mimic)) {
+            return;
+        }
+        long section = sectionKey(mimic);
+        if (section == mimic.getIndexedSection()) {
+            return;
+        }
+        removeFromSection(mimic, mimic.getIndexedSection());
+        sections.computeIfAbsent(section, key -> new ArrayList<>()).add(mimic);
+        mimic.setIndexedSection(section);
+    }
+
+    /**
+     * Updates variant counts after a mimic changed variant.
+     */
+    public void onVariantChanged(MimicEntity mimic) {
+        MimicVariant previous = indexed.get(mimic);
+        if (previous == null || previous == mimic.getVariant()) {
+            return;
+        }
+        indexed.put(mimic, mimic.getVariant());
+        variantCounts[previous.getIndex()]--;
+        variantCounts[mimic.getVariant().getIndex()]++;
+    }
+
+    private void removeFromSection(MimicEntity mimic, long section) {
+        List<MimicEntity> bucket = sections.get(section);
+        if (bucket != null && bucket.remove(mimic) && bucket.isEmpty()) {
+            sections.remove(section);
+        }
+    }
+
+    private static long sectionKey(MimicEntity mimic) {
+        return ChunkSectionPos.asLong(
+                ChunkSectionPos.getSectionCoord(mimic.getBlockX()),
+                ChunkSectionPos.getSectionCoord(mimic.getBlockY()),
+                ChunkSectionPos.getSectionCoord(mimic.getBlockZ()));
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Finds the closest mimic to a position.
+     * Only sections overlapping the search radius are visited.
+     *
+     * @param pos    Center of the search
+     * @param radius Maximum distance in blocks
+     * @return Closest mimic, or null if none is within the radius
+     */
+    @Nullable
+    public MimicEntity nearest(Vec3d pos, double radius) {
+        int minX = ChunkSectionPos.getSectionCoord(pos.x - radius);
+        int minY = ChunkSectionPos.getSectionCoord(pos.y - radius);
+        int minZ = ChunkSectionPos.getSectionCoord(pos.z - radius);
+        int maxX = ChunkSectionPos.getSectionCoord(pos.x + radius);
+        int maxY = ChunkSectionPos.getSectionCoord(pos.y + radius);
+        int maxZ = ChunkSectionPos.getSectionCoord(pos.z + radius);
+
+        MimicEntity closest = null;
+        double closestDistance = radius * radius;
+
+        // Sparse worlds: cheaper to walk the occupied sections than the cube
+        long cubeSize = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (cubeSize > sections.size()) {
+            for (List<MimicEntity> bucket : sections.values()) {
+                for (MimicEntity mimic : bucket) {
+                    double distance = mimic.squaredDistanceTo(pos);
+                    if (distance <= closestDistance) {
+                        closest = mimic;
+                        closestDistance = distance;
+                    }
+                }
+            }
+            return closest;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<MimicEntity> bucket = sections.get(ChunkSectionPos.asLong(x, y, z));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (MimicEntity mimic : bucket) {
+                        double distance = mimic.squaredDistanceTo(pos);
+                        if (distance <= closestDistance) {
+                            closest = mimic;
+                            closestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Visits all mimics in a chunk column.
+     *
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @param action Action to run for each mimic
+     */
+    public void inChunk(int chunkX, int chunkZ, Consumer<MimicEntity> action) {
+        int minY = world.getBottomSectionCoord();
+        int maxY = world.getTopSectionCoord();
+        for (int y = minY; y <= maxY; y++) {
+            List<MimicEntity> bucket = sections.get(ChunkSectionPos.asLong(chunkX, y, chunkZ));
+            if (bucket != null) {
+                bucket.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Counts loaded mimics of a variant.
+     */
+    public int countByVariant(MimicVariant variant) {
+        return variantCounts[variant.getIndex()];
+    }
+
+    /**
+     * Gets the number of loaded mimics.
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Gets all loaded mimics. The view must not be modified, and is
+     * invalidated by entities loading or unloading; copy it before
+     * discarding mimics.
+     */
+    public Collection<MimicEntity> all() {
+        return Collections.unmodifiableSet(indexed.keySet());
+    }
+}
@@ -0,0 +1,89 @@
+package com.mimicmod.world;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicEntity;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayDeque;
+
+/**
+ * Re-applies scaled stats to loaded mimics after a config change.
+ *
+ * <p>
+ * When a new balance snapshot is published, every loaded mimic is queued once
+ * and re-scaled in bounded batches at the end of each server tick, so a reload
+ * never causes a tick spike. Mimics loaded later with stats from an older
+ * config are queued as they enter the world. Mimics whose stored version
+ * already matches are skipped.
+ */
+public final class MimicRescaler {
+
+    /**
+     * Maximum number of mimics re-scaled per server tick.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    private static final ArrayDeque<MimicEntity> QUEUE = new ArrayDeque<>();
+    private static int lastVersion = 0;
+
+    private MimicRescaler() {
+    }
+
+    /**
+     * Hooks the re-scaler into the server lifecycle.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(MimicRescaler::tick);
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof MimicEntity mimic && mimic.hasStaleStats()) {
+                QUEUE.add(mimic);
+            }
+        });
+
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            QUEUE.clear();
+            lastVersion = 0;
+        });
+    }
+
+    private static void tick(MinecraftServer server) {
+        int version = BalanceUtils.snapshot().version();
+        if (version != lastVersion) {
+            lastVersion = version;
+            enqueueLoaded(server);
+        }
+
+        int budget = BATCH_SIZE;
+        while (budget > 0 && !QUEUE.isEmpty()) {
+            MimicEntity mimic = QUEUE.poll();
+            if (mimic.isRemoved() || !mimic.hasStaleStats()) {
+                continue;
+            }
+            mimic.rescaleStats();
+            budget--;
+        }
+    }
+
+    private static void enqueueLoaded(MinecraftServer server) {
+        QUEUE.clear();
+        for (ServerWorld world : server.getWorlds()) {
+            for (MimicEntity mimic : MimicIndex.get(world).all()) {
+                if (mimic.hasStaleStats()) {
+                    QUEUE.add(mimic);
+                }
+            }
+        }
+
+        if (!QUEUE.isEmpty()) {
+            MimicMod.LOGGER.info("Re-scaling {} loaded mimics for config version {}", QUEUE.size(), lastVersion);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.mimicmod.world;
+
+import com.mimicmod.MimicMod;
+import com.mimicmod.config.MimicConfig;
+import com.mimicmod.entity.BalanceUtils;
+import com.mimicmod.entity.MimicEntity;
+import com.mimicmod.registry.ModEntities;
+
+import net.fabricmc.fabric.api.biome.v1.BiomeModifications;
+import net.fabricmc.fabric.api.biome.v1.BiomeSelectionContext;
+import net.fabricmc.fabric.api.biome.v1.BiomeSelectors;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.entity.SpawnReason;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.ServerWorldAccess;
+
+/**
+ * Natural spawning of mimics.
+ *
+ * <p>
+ * Mimics are added to the monster spawn list of every overworld biome, and of
+ * any other biome given a positive weight in {@code biome_weights}. Biomes
+ * weighted 0 are left out. Vanilla spawn list weights are fixed at startup, so
+ * the entry is registered with {@code spawn_weight} times the largest biome
+ * weight. {@link #canSpawn} then accepts each attempt with probability
+ * {@code weight / largest weight}. That gives each biome its configured
+ * relative weight and keeps biome weights hot-reloadable (up to the startup
+ * maximum).
+ *
+ * <p>
+ * Mimics belong in loot-bearing structures: when any of
+ * {@code spawn_in_dungeon}, {@code spawn_in_mineshaft} or
+ * {@code spawn_in_stronghold} is set, natural spawns are limited to the
+ * enabled structures. With all three off they spawn anywhere dark.
+ *
+ * <p>
+ * The predicate runs the cheapest checks first: difficulty, then the cached
+ * biome weight and structure cell (see {@link SpawnEligibilityCache}), then the
+ * block below, and the light level last.
+ */
+public final class MimicSpawning {
+
+    // Largest biome weight at startup; attempts are thinned relative to it
+    private static volatile double weightCeiling = 1.0;
+
+    private MimicSpawning() {
+    }
+
+    /**
+     * Adds mimics to biome spawn lists.
+     * Called during mod initialization, after the config is loaded.
+     */
+    public static void register() {
+        MimicConfig config = MimicMod.CONFIG;
+        double ceiling = 1.0;
+        for (double weight : config.biome_weights.values()) {
+            ceiling = Math.max(ceiling, weight);
+        }
+        weightCeiling = ceiling;
+
+        int entryWeight = (int) Math.ceil(config.spawn_settings.spawn_weight * ceiling);
+        if (entryWeight <= 0) {
+            MimicMod.LOGGER.info("Natural mimic spawning disabled (spawn_weight is 0)");
+            return;
+        }
+
+        BiomeModifications.addSpawn(
+                context -> isSpawnBiome(config, context),
+                SpawnGroup.MONSTER,
+                ModEntities.MIMIC,
+                entryWeight,
+                config.spawn_settings.min_group_size,
+                config.spawn_settings.max_group_size);
+
+        MimicMod.LOGGER.info("Registered natural mimic spawns (entry weight {}, biome weight ceiling {})",
+                entryWeight, ceiling);
+    }
+
+    private static boolean isSpawnBiome(MimicConfig config, BiomeSelectionContext context) {
+        Double weight = config.biome_weights.get(context.getBiomeKey().getValue().toString());
+        if (weight != null) {
+            return weight > 0.0;
+        }
+        return BiomeSelectors.foundInOverworld().test(context);
+    }
+
+    /**
+     * Spawn predicate for mimics, registered as the entity type's spawn
+     * restriction.
+     */
+    public static boolean canSpawn(EntityType<MimicEntity> type, ServerWorldAccess world, SpawnReason spawnReason,
+            BlockPos pos, Random random) {
+        if (world.getDifficulty() == Difficulty.PEACEFUL) {
+            return false;
+        }
+
+        // Biome weight only thins natural spawns; spawners place where they are built
+        if (spawnReason == SpawnReason.NATURAL || spawnReason == SpawnReason.CHUNK_GENERATION) {
+            double weight = BalanceUtils.getBiomeSpawnWeight(biomeAt(world, pos));
+            if (weight <= 0.0) {
+                return false;
+            }
+            double ceiling = weightCeiling;
+            if (weight < ceiling && random.nextDouble() * ceiling >= weight) {
+                return false;
+            }
+
+            int structures = enabledStructures();
+            if (structures != 0 && (structureFlagsAt(world, pos) & structures) == 0) {
+                return false;
+            }
+        }
+
+        if (!MobEntity.canMobSpawn(type, world, spawnReason, pos, random)) {
+            return false;
+        }
+
+        // Light lookup is the most expensive check, so it runs last
+        return BalanceUtils.canSpawnInLight(world.getLightLevel(pos));
+    }
+
+    /**
+     * Gets the structure kinds mimics may spawn in.
+     *
+     * @return Flags from {@link SpawnEligibilityCache}, or 0 if spawning is not
+     *         restricted to structures
+     */
+    private static int enabledStructures() {
+        MimicConfig.SpawnSettings settings = BalanceUtils.snapshot().config().spawn_settings;
+        int flags = 0;
+        if (settings.spawn_in_dungeon) {
+            flags |= SpawnEligibilityCache.DUNGEON;
+        }
+        if (settings.spawn_in_mineshaft) {
+            flags |= SpawnEligibilityCache.MINESHAFT;
+        }
+        if (settings.spawn_in_stronghold) {
+            flags |= SpawnEligibilityCache.STRONGHOLD;
+        }
+        return flags;
+    }
+
+    private static int structureFlagsAt(ServerWorldAccess world, BlockPos pos) {
+        // Structure pieces are only indexed for loaded chunks on the server thread
+        if (world instanceof ServerWorld serverWorld && serverWorld.getServer().isOnThread()) {
+            return SpawnEligibilityCache.get(serverWorld).structureFlags(pos);
+        }
+        return 0;
+    }
+
+    private static int biomeAt(ServerWorldAccess world, BlockPos pos) {
+        // Chunk generation spawns run on worldgen threads against a ChunkRegion
+        if (world instanceof ServerWorld serverWorld && serverWorld.getServer().isOnThread()) {
+            return SpawnEligibilityCache.get(serverWorld).biome(pos);
+        }
+        return BiomeIndex.of(world.getBiome(pos));
+    }
+}
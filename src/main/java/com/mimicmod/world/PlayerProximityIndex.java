@@ -0,0 +1,143 @@
+package com.mimicmod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-world spatial hash of players, rebuilt at most once per tick.
+ *
+ * <p>
+ * Players are bucketed into 16x16 block columns the first time the index is
+ * queried in a tick. Every mimic then resolves nearby players from the buckets
+ * its search radius covers, so target acquisition costs O(mimics) instead of
+ * O(mimics x players). Spectators are never indexed. All access happens on the
+ * server thread.
+ */
+public final class PlayerProximityIndex {
+
+    private static final Map<ServerWorld, PlayerProximityIndex> INDICES = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<List<PlayerEntity>> cells = new Long2ObjectOpenHashMap<>();
+    private long builtAt = Long.MIN_VALUE;
+
+    private PlayerProximityIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Drops indices of unloaded worlds.
+     * Called during mod initialization.
+     */
+    public static void register() {
+        ServerWorldEvents.UNLOAD.register((server, world) -> INDICES.remove(world));
+    }
+
+    /**
+     * Gets the index for a world, rebuilding it if it is from an earlier tick.
+     */
+    public static PlayerProximityIndex get(ServerWorld world) {
+        PlayerProximityIndex index = INDICES.computeIfAbsent(world, PlayerProximityIndex::new);
+        index.refresh();
+        return index;
+    }
+
+    private void refresh() {
+        long time = world.getTime();
+        if (time == builtAt) {
+            return;
+        }
+        builtAt = time;
+
+        cells.clear();
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            long cell = ChunkPos.toLong(player.getBlockX() >> 4, player.getBlockZ() >> 4);
+            cells.computeIfAbsent(cell, key -> new ArrayList<>(2)).add(player);
+        }
+    }
+
+    /**
+     * Checks whether any player is within range of a position.
+     */
+    public boolean anyWithin(double x, double y, double z, double range) {
+        if (cells.isEmpty()) {
+            return false;
+        }
+
+        double rangeSquared = range * range;
+        int minX = ChunkSectionPos.getSectionCoord(x - range);
+        int maxX = ChunkSectionPos.getSectionCoord(x + range);
+        int minZ = ChunkSectionPos.getSectionCoord(z - range);
+        int maxZ = ChunkSectionPos.getSectionCoord(z + range);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                List<PlayerEntity> players = cells.get(ChunkPos.toLong(cellX, cellZ));
+                if (players == null) {
+                    continue;
+                }
+                for (PlayerEntity player : players) {
+                    if (player.squaredDistanceTo(x, y, z) <= rangeSquared) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the closest player within range of an entity that passes a filter.
+     * The filter is only evaluated for players closer than the best match so
+     * far, so expensive checks such as line of sight run as rarely as possible.
+     *
+     * @param from   Entity to measure from
+     * @param range  Maximum distance in blocks
+     * @param filter Additional condition, e.g. a target predicate
+     * @return Closest matching player, or null
+     */
+    @Nullable
+    public PlayerEntity nearest(Entity from, double range, Predicate<PlayerEntity> filter) {
+        if (cells.isEmpty()) {
+            return null;
+        }
+
+        PlayerEntity closest = null;
+        double closestDistance = range * range;
+        int minX = ChunkSectionPos.getSectionCoord(from.getX() - range);
+        int maxX = ChunkSectionPos.getSectionCoord(from.getX() + range);
+        int minZ = ChunkSectionPos.getSectionCoord(from.getZ() - range);
+        int maxZ = ChunkSectionPos.getSectionCoord(from.getZ() + range);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                List<PlayerEntity> players = cells.get(ChunkPos.toLong(cellX, cellZ));
+                if (players == null) {
+                    continue;
+                }
+                for (PlayerEntity player : players) {
+                    double distance = from.squaredDistanceTo(player);
+                    if (distance <= closestDistance && filter.test(player)) {
+                        closest = player;
+                        closestDistance = distance;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+}
@@ -0,0 +1,301 @@
+package com.mimicmod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.MobSpawnerBlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.structure.StructurePiece;
+import net.minecraft.structure.StructureStart;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.gen.structure.Structure;
+import net.minecraft.world.gen.structure.StructureType;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-chunk cache of the inputs to the mimic spawn predicate for a single
+ * {@link ServerWorld}.
+ *
+ * <p>
+ * The natural spawner tries many positions in the same chunks every tick, and
+ * resolving a biome goes through the biome noise lookup each time. The
+ * interned biome index is therefore computed once per chunk section (sampled
+ * at the section center) and reused until the chunk unloads. Only the biome
+ * index is cached, not its weight, so config reloads take effect immediately.
+ *
+ * <p>
+ * Structure membership is resolved once per chunk as well. The first
+ * lookup collects the bounding boxes of mineshaft and stronghold pieces, and of
+ * dungeon rooms, which are features found by their spawner, and rasterizes
+ * them into one 64-bit mask per section and structure kind, one bit per 4x4x4
+ * cell. Each later lookup is a single bit test. Spawners inside mineshaft or
+ * stronghold pieces belong to those structures and are not dungeon rooms. A
+ * room can reach into a neighboring chunk, so a chunk resolved while a
+ * neighbor was not loaded is resolved again once that neighbor loads. All
+ * access happens on the server thread.
+ */
+public final class SpawnEligibilityCache {
+
+    /**
+     * Structure kind flags returned by {@link #structureFlags(BlockPos)}.
+     */
+    public static final int DUNGEON = 1;
+    public static final int MINESHAFT = 1 << 1;
+    public static final int STRONGHOLD = 1 << 2;
+    private static final int STRUCTURE_KINDS = 3;
+
+    // Dungeon room extent around its spawner (largest vanilla room, walls included)
+    private static final int DUNGEON_RADIUS = 4;
+
+    private static final int NOT_CACHED = Integer.MIN_VALUE;
+
+    private static final Map<ServerWorld, SpawnEligibilityCache> CACHES = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<ChunkEntry> chunks = new Long2ObjectOpenHashMap<>();
+
+    private SpawnEligibilityCache(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Hooks cache invalidation into chunk loads and unloads, and world
+     * unloads. Called during mod initialization.
+     */
+    public static void register() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            SpawnEligibilityCache cache = CACHES.get(world);
+            if (cache != null) {
+                cache.onChunkLoad(chunk.getPos());
+            }
+        });
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            SpawnEligibilityCache cache = CACHES.get(world);
+            if (cache != null) {
+                cache.chunks.remove(chunk.getPos().toLong());
+            }
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> CACHES.remove(world));
+    }
+
+    /**
+     * Gets the cache for a world, creating it on first use.
+     */
+    public static SpawnEligibilityCache get(ServerWorld world) {
+        return CACHES.computeIfAbsent(world, SpawnEligibilityCache::new);
+    }
+
+    /**
+     * Gets the interned biome index of the chunk section containing a position.
+     *
+     * @param pos Candidate spawn position
+     * @return Interned biome index (see {@link BiomeIndex})
+     */
+    public int biome(BlockPos pos) {
+        int section = world.getSectionIndex(pos.getY());
+        if (section < 0 || section >= world.countVerticalSections()) {
+            return BiomeIndex.of(world.getBiome(pos));
+        }
+
+        ChunkEntry entry = entry(pos);
+        int biome = entry.sectionBiomes[section];
+        if (biome == NOT_CACHED) {
+            BlockPos center = new BlockPos((pos.getX() & ~15) + 8, (pos.getY() & ~15) + 8, (pos.getZ() & ~15) + 8);
+            biome = BiomeIndex.of(world.getBiome(center));
+            entry.sectionBiomes[section] = biome;
+        }
+        return biome;
+    }
+
+    /**
+     * Gets the kinds of structure whose pieces cover the 4x4x4 cell containing
+     * a position.
+     *
+     * @param pos Candidate spawn position
+     * @return Bitwise OR of {@link #DUNGEON}, {@link #MINESHAFT} and
+     *         {@link #STRONGHOLD}, or 0 if outside all of them
+     */
+    public int structureFlags(BlockPos pos) {
+        int section = world.getSectionIndex(pos.getY());
+        if (section < 0 || section >= world.countVerticalSections()) {
+            return 0;
+        }
+
+        ChunkEntry entry = entry(pos);
+        if (!entry.structuresResolved) {
+            resolveStructures(entry, pos.getX() >> 4, pos.getZ() >> 4);
+        }
+        if (entry.structureCells == null) {
+            return 0;
+        }
+
+        long bit = 1L << cellBit(pos.getX() >> 2, pos.getY() >> 2, pos.getZ() >> 2);
+        int base = section * STRUCTURE_KINDS;
+        int flags = 0;
+        for (int kind = 0; kind < STRUCTURE_KINDS; kind++) {
+            if ((entry.structureCells[base + kind] & bit) != 0) {
+                flags |= 1 << kind;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Drops the structure masks of neighbors resolved without this chunk, so
+     * dungeon rooms reaching in from it are found on their next lookup.
+     */
+    private void onChunkLoad(ChunkPos pos) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                ChunkEntry entry = chunks.get(ChunkPos.toLong(pos.x + dx, pos.z + dz));
+                if (entry != null && entry.missingNeighbors) {
+                    entry.structuresResolved = false;
+                    entry.missingNeighbors = false;
+                    entry.structureCells = null;
+                }
+            }
+        }
+    }
+
+    private void resolveStructures(ChunkEntry entry, int chunkX, int chunkZ) {
+        entry.structuresResolved = true;
+        entry.missingNeighbors = false;
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        BlockBox column = new BlockBox(minX, world.getBottomY(), minZ, minX + 15, world.getTopYInclusive(),
+                minZ + 15);
+
+        // Starts referenced by this chunk; resolved once, never per attempt
+        List<StructureStart> starts = world.getStructureAccessor().getStructureStarts(new ChunkPos(chunkX, chunkZ),
+                structure -> kindOf(structure) != 0);
+        for (StructureStart start : starts) {
+            int kind = kindOf(start.getStructure());
+            for (StructurePiece piece : start.getChildren()) {
+                BlockBox box = piece.getBoundingBox();
+                if (box.intersects(column)) {
+                    mark(entry, box, column, kind);
+                }
+            }
+        }
+
+        // Dungeons are features, not structures: find their rooms by spawner
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX + dx, chunkZ + dz);
+                if (chunk == null) {
+                    entry.missingNeighbors = true;
+                    continue;
+                }
+                List<StructureStart> chunkStarts = null;
+                for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                    if (blockEntity instanceof MobSpawnerBlockEntity) {
+                        BlockPos spawner = blockEntity.getPos();
+                        // Cave spider and silverfish spawners of mineshafts and strongholds
+                        if (chunkStarts == null) {
+                            chunkStarts = world.getStructureAccessor().getStructureStarts(chunk.getPos(),
+                                    structure -> kindOf(structure) != 0);
+                        }
+                        if (isInsidePiece(chunkStarts, spawner)) {
+                            continue;
+                        }
+                        BlockBox room = new BlockBox(
+                                spawner.getX() - DUNGEON_RADIUS, spawner.getY() - 1, spawner.getZ() - DUNGEON_RADIUS,
+                                spawner.getX() + DUNGEON_RADIUS, spawner.getY() + 4, spawner.getZ() + DUNGEON_RADIUS);
+                        if (room.intersects(column)) {
+                            mark(entry, room, column, DUNGEON);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isInsidePiece(List<StructureStart> starts, BlockPos pos) {
+        for (StructureStart start : starts) {
+            for (StructurePiece piece : start.getChildren()) {
+                if (piece.getBoundingBox().contains(pos)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int kindOf(Structure structure) {
+        StructureType<?> type = structure.getType();
+        if (type == StructureType.MINESHAFT) {
+            return MINESHAFT;
+        }
+        if (type == StructureType.STRONGHOLD) {
+            return STRONGHOLD;
+        }
+        return 0;
+    }
+
+    /**
+     * Sets the cell bits covered by a box, clipped to the chunk column.
+     */
+    private void mark(ChunkEntry entry, BlockBox box, BlockBox column, int kind) {
+        if (entry.structureCells == null) {
+            entry.structureCells = new long[entry.sectionBiomes.length * STRUCTURE_KINDS];
+        }
+        int kindIndex = Integer.numberOfTrailingZeros(kind);
+
+        int minX = Math.max(box.getMinX(), column.getMinX()) >> 2;
+        int maxX = Math.min(box.getMaxX(), column.getMaxX()) >> 2;
+        int minY = Math.max(box.getMinY(), column.getMinY()) >> 2;
+        int maxY = Math.min(box.getMaxY(), column.getMaxY()) >> 2;
+        int minZ = Math.max(box.getMinZ(), column.getMinZ()) >> 2;
+        int maxZ = Math.min(box.getMaxZ(), column.getMaxZ()) >> 2;
+        for (int y = minY; y <= maxY; y++) {
+            int index = world.getSectionIndex(y << 2) * STRUCTURE_KINDS + kindIndex;
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    entry.structureCells[index] |= 1L << cellBit(x, y, z);
+                }
+            }
+        }
+    }
+
+    // Bit of a 4x4x4 cell within its section mask, from cell coordinates
+    private static int cellBit(int cellX, int cellY, int cellZ) {
+        return (cellY & 3) << 4 | (cellZ & 3) << 2 | (cellX & 3);
+    }
+
+    private ChunkEntry entry(BlockPos pos) {
+        long chunk = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+        ChunkEntry entry = chunks.get(chunk);
+        if (entry == null) {
+            entry = new ChunkEntry(world.countVerticalSections());
+            chunks.put(chunk, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Cached spawn inputs of one chunk column.
+     */
+    private static final class ChunkEntry {
+        private final int[] sectionBiomes;
+        private boolean structuresResolved;
+        // Set if a neighbor was not loaded when the structures were resolved
+        private boolean missingNeighbors;
+        // Per section and structure kind; null if no structure touches the chunk
+        private long[] structureCells;
+
+        private ChunkEntry(int sections) {
+            sectionBiomes = new int[sections];
+            Arrays.fill(sectionBiomes, NOT_CACHED);
+        }
+    }
+}